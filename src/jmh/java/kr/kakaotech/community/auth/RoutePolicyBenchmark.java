@@ -0,0 +1,77 @@
+package kr.kakaotech.community.auth;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 정책 판단 비교
+ *
+ * - legacyRegex : 기존 startsWith stream + String.matches (요청마다 Pattern 컴파일)
+ * - trie        : 시작 시 만든 RoutePolicyTrie 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoutePolicyBenchmark {
+
+    private static final List<String> EXCLUDED_PATHS = List.of(
+            "/api/auth", "/api/error", "/api/images", "/api/posts/top10", "/api/health",
+            "/api/uploads", "/api/posts/type", "/api/images/status", "/api/actuator", "/actuator"
+    );
+
+    private static final String[][] REQUESTS = {
+            {"GET", "/api/posts"},
+            {"GET", "/api/posts/1234"},
+            {"GET", "/api/posts/1234/comments"},
+            {"POST", "/api/posts/1234/likes"},
+            {"PATCH", "/api/users"},
+            {"POST", "/api/auth"},
+    };
+
+    private RoutePolicyTrie trie;
+
+    @Setup
+    public void setUp() {
+        trie = AuthFilter.buildRoutePolicies(EXCLUDED_PATHS);
+    }
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (String[] request : REQUESTS) {
+            blackhole.consume(legacyPolicy(request[0], request[1]));
+        }
+    }
+
+    @Benchmark
+    public void trie(Blackhole blackhole) {
+        for (String[] request : REQUESTS) {
+            blackhole.consume(trie.resolve(request[0], request[1]));
+        }
+    }
+
+    private RoutePolicy legacyPolicy(String method, String uri) {
+        if (EXCLUDED_PATHS.stream().anyMatch(uri::startsWith)) {
+            return RoutePolicy.PUBLIC;
+        }
+        if ("GET".equals(method) && (uri.matches("/api/users/email") ||
+                uri.matches("/api/users/nickname") ||
+                uri.matches("/api/posts") ||
+                uri.matches("/api/posts/\\d+") ||
+                uri.matches("/api/posts/\\d+/stream") ||
+                uri.matches("/api/posts/index"))) {
+            return RoutePolicy.PUBLIC;
+        }
+        if ("POST".equals(method) && uri.matches("/api/users")) {
+            return RoutePolicy.PUBLIC;
+        }
+        if (uri.matches("/api/posts/\\d+/likes") ||
+                ("GET".equals(method) &&
+                        (uri.matches("/api/posts/\\d+/comments(/threads)?") || uri.matches("/api/comments/\\d+/thread")))) {
+            return RoutePolicy.OPTIONAL;
+        }
+        return RoutePolicy.REQUIRED;
+    }
+}
@@ -0,0 +1,55 @@
+package kr.kakaotech.community.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 비교
+ *
+ * - newParserPerRequest : 기존 방식, 요청마다 parser 를 만들고 서명 검증 + JSON 파싱
+ * - sharedParser        : parser 재사용, 서명 검증 + JSON 파싱은 매번
+ * - verifiedCache       : 같은 토큰 재요청 시 캐시 조회만
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hs256-at-least-32-bytes";
+
+    private SecretKey secretKey;
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtProvider = new JwtProvider(SECRET, 10_000);
+        ReflectionTestUtils.setField(jwtProvider, "accessTtlSec", 1800);
+        token = jwtProvider.createAccess(UUID.randomUUID().toString(), "USER");
+        jwtProvider.verifyAccess(token);
+    }
+
+    @Benchmark
+    public Claims newParserPerRequest() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public JwtProvider.VerifiedToken verifiedCache() {
+        return jwtProvider.verifyAccess(token);
+    }
+}
@@ -0,0 +1,68 @@
+package kr.kakaotech.community.auth.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 직렬화 비교
+ *
+ * - json   : 기존 RedisConfig 의 GenericJackson2JsonRedisSerializer (@class + ISO 시각)
+ * - binary : SessionDaoRedisSerializer
+ *
+ * 세션 하나당 바이트 수는 Setup 에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private SessionDaoRedisSerializer binarySerializer;
+
+    private SessionDao session;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        binarySerializer = new SessionDaoRedisSerializer();
+
+        LocalDateTime now = LocalDateTime.now();
+        session = new SessionDao(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "USER", now, now.plusMinutes(30));
+        jsonBytes = jsonSerializer.serialize(session);
+        binaryBytes = binarySerializer.serialize(session);
+
+        System.out.printf("%nbytes per session : json=%d, binary=%d%n", jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonSerializer.serialize(session);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binarySerializer.serialize(session);
+    }
+
+    @Benchmark
+    public SessionDao binaryDecode() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+}
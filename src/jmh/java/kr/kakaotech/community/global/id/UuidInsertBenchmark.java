@@ -0,0 +1,112 @@
+package kr.kakaotech.community.global.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * users PK 를 랜덤 v4, UUIDv7 로 넣을 때의 insert 처리량과 인덱스 크기 비교
+ *
+ * - H2 파일 DB (MODE=MySQL) 에 users 와 같은 binary(16) PK 테이블을 만들고 seed-rows 만큼 채운 뒤 측정합니다.
+ * - 처리량은 batch-size 개 insert + commit 한 번 단위이고 row 당 ops/s 로 보고합니다.
+ * - 테이블, 인덱스가 차지하는 바이트는 TearDown 에서 DISK_SPACE_USED 로 출력합니다.
+ *   H2 B-tree 기준이라 InnoDB 의 절대값과는 다르고 v4, v7 의 상대 비교용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"v4", "v7"})
+    private String version;
+
+    @Param({"200000"})
+    private int seedRows;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        // jmh jar 에서 mysql 드라이버의 META-INF/services 와 겹쳐 자동 등록이 안 될 수 있습니다.
+        org.h2.Driver.load();
+        directory = Files.createTempDirectory("uuid-bench");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";MODE=MySQL", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE users (
+                    id BINARY(16) PRIMARY KEY,
+                    nickname VARCHAR(12) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+            """);
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO users (id, nickname, created_at) VALUES (?, ?, ?)");
+        for (int i = 0; i < seedRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(nextId()));
+            insert.setString(2, "u" + (inserted++ % 100_000_000));
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*), DISK_SPACE_USED('USERS') FROM users")) {
+            resultSet.next();
+            long rows = resultSet.getLong(1);
+            long bytes = resultSet.getLong(2);
+            System.out.printf("%n%s : rows=%d, table+index bytes=%d, bytes per row=%.1f%n",
+                    version, rows, bytes, (double) bytes / rows);
+        }
+        connection.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private UUID nextId() {
+        return "v7".equals(version) ? UuidV7Generator.next() : UUID.randomUUID();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
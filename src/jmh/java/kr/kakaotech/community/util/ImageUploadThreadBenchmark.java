@@ -0,0 +1,131 @@
+package kr.kakaotech.community.util;
+
+import com.sun.net.httpserver.HttpServer;
+import kr.kakaotech.community.global.config.WebClientConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 이미지 게이트웨이 앞에서 platform thread, virtual thread 모드의 처리량과 p99 지연 비교
+ *
+ * - platform : Tomcat 기본값과 같은 200 스레드 풀 + Reactor Netty WebClient
+ * - virtual : 요청마다 virtual thread + JDK HttpClient WebClient (spring.threads.virtual.enabled=true 와 같은 구성)
+ * - 한 invocation 에 concurrency 개 업로드를 동시에 던지고 모두 끝날 때까지 기다립니다. 처리량은 요청 당 ops/s 입니다.
+ * - 요청별 지연은 TearDown 에서 p50, p99 로 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImageUploadThreadBenchmark {
+
+    private static final int CONCURRENCY = 1000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final String RESPONSE = "{\"status\":200,\"message\":\"ok\",\"data\":{\"filePath\":\"/uploads/x.png\"}}";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200"})
+    private int gatewayDelayMs;
+
+    private HttpServer gateway;
+    private ExecutorService requestExecutor;
+    private ApiGatewayImageManager imageManager;
+    private MockMultipartFile image;
+
+    private final long[] latencies = new long[1 << 20];
+    private final AtomicInteger latencyCount = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gateway = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENCY);
+        gateway.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        gateway.createContext("/upload", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(gatewayDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        gateway.start();
+
+        boolean virtual = "virtual".equals(mode);
+        requestExecutor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+
+        String url = "http://127.0.0.1:" + gateway.getAddress().getPort() + "/upload";
+        imageManager = new ApiGatewayImageManager(WebClientConfig.configure(WebClient.builder(), virtual).build());
+        ReflectionTestUtils.setField(imageManager, "profileUploadUrl", url);
+        ReflectionTestUtils.setField(imageManager, "postUploadUrl", url);
+        ReflectionTestUtils.setField(imageManager, "timeoutMs", 30_000L);
+
+        image = new MockMultipartFile("image", "x.png", "image/png", new byte[4096]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void upload() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            // 큐 대기 시간도 사용자 지연이므로 제출 시점부터 잽니다.
+            long submittedAt = System.nanoTime();
+            requestExecutor.execute(() -> {
+                try {
+                    imageManager.uploadPostImage(image);
+                } finally {
+                    recordLatency(System.nanoTime() - submittedAt);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        int count = Math.min(latencyCount.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        System.out.printf("%n%s : requests=%d, p50=%.1fms, p99=%.1fms%n",
+                mode, count, percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+
+        requestExecutor.shutdownNow();
+        gateway.stop(0);
+    }
+
+    private void recordLatency(long nanos) {
+        int index = latencyCount.getAndIncrement();
+        if (index < latencies.length) {
+            latencies[index] = nanos;
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -1,6 +1,7 @@
 package kr.kakaotech.community.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.kakaotech.community.auth.jwt.JwtFilter;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,36 +33,56 @@ public class AuthFilter extends OncePerRequestFilter {
 
     private final AuthenticationStrategy authStrategy;
     private final ObjectMapper objectMapper;
+    private final UserProfileCache userProfileCache;
 
-    private final String USERS_URL = "/api/users";
-    private final String LIKE_URL = "/api/posts/\\d+/likes";
+    private static final String ROUTE_POLICY_ATTRIBUTE = AuthFilter.class.getName() + ".routePolicy";
 
-    // 필터 제외 경로 설정
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String uri = request.getRequestURI();
-        String method = request.getMethod();
+    private RoutePolicyTrie routePolicies;
+
+    @PostConstruct
+    void initRoutePolicies() {
+        routePolicies = buildRoutePolicies(EXCLUDED_PATHS);
+    }
+
+    /**
+     * 경로별 인증 정책
+     */
+    static RoutePolicyTrie buildRoutePolicies(List<String> excludedPaths) {
+        RoutePolicyTrie trie = new RoutePolicyTrie();
 
         // 인증 불필요 경로
-        if (EXCLUDED_PATHS.stream().anyMatch(uri::startsWith)) {
-            return true;
+        for (String path : excludedPaths) {
+            trie.prefix(path.trim(), RoutePolicy.PUBLIC);
         }
 
         // GET 요청 중 인증 불필요한 것들
-        if ("GET".equals(method)) {
-            return uri.matches("/api/users/email") ||
-                   uri.matches("/api/users/nickname") ||
-                   uri.matches("/api/posts") ||
-                   uri.matches("/api/posts/\\d+") ||
-                   uri.matches("/api/posts/\\d+/comments") ||
-                   uri.matches("/api/posts/index");
-        }
+        trie.route("GET", "/api/users/email", RoutePolicy.PUBLIC)
+                .route("GET", "/api/users/nickname", RoutePolicy.PUBLIC)
+                .route("GET", "/api/users/search", RoutePolicy.PUBLIC)
+                .route("GET", "/api/users/{uuid}/posts", RoutePolicy.PUBLIC)
+                .route("GET", "/api/users/{uuid}/statuses", RoutePolicy.PUBLIC)
+                .route("GET", "/api/posts", RoutePolicy.PUBLIC)
+                .route("GET", "/api/posts/{id}", RoutePolicy.PUBLIC)
+                .route("GET", "/api/posts/{id}/stream", RoutePolicy.PUBLIC)
+                .route("GET", "/api/posts/index", RoutePolicy.PUBLIC)
+                .route("POST", "/api/users", RoutePolicy.PUBLIC);
+
+        // 비로그인도 조회 가능한 경로 (로그인 시 내 좋아요 여부 포함)
+        trie.route("*", "/api/posts/{id}/likes", RoutePolicy.OPTIONAL)
+                .route("GET", "/api/posts/{id}/comments", RoutePolicy.OPTIONAL)
+                .route("GET", "/api/posts/{id}/comments/threads", RoutePolicy.OPTIONAL)
+                .route("GET", "/api/comments/{id}/thread", RoutePolicy.OPTIONAL);
+
+        return trie;
+    }
 
-        if ("POST".equals(method)) {
-            return uri.matches(USERS_URL);
-        }
+    // 필터 제외 경로 설정
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        RoutePolicy policy = routePolicies.resolve(request.getMethod(), request.getRequestURI());
+        request.setAttribute(ROUTE_POLICY_ATTRIBUTE, policy);
 
-        return false;
+        return policy == RoutePolicy.PUBLIC;
     }
 
     @Override
@@ -78,7 +102,8 @@ public class AuthFilter extends OncePerRequestFilter {
                 authExceptionHandler(response, new CustomException(ErrorCode.EXPIRED_ACCESS_TOKEN));
                 return;
             } else {
-                if (requestURI.matches(LIKE_URL)) {
+                // 비로그인도 조회 가능한 경로 (로그인 시 내 좋아요 여부 포함)
+                if (request.getAttribute(ROUTE_POLICY_ATTRIBUTE) == RoutePolicy.OPTIONAL) {
                     filterChain.doFilter(request, response);
                     return;
                 }
@@ -90,6 +115,11 @@ public class AuthFilter extends OncePerRequestFilter {
         // jwt or session
         authStrategy.setAttributeByAuth(auth.get(), request);
 
+        // 컨트롤러에서 @LoginUser 로 받을 인증 사용자 - UUID 파싱은 여기서 한 번만
+        UUID userId = UUID.fromString(request.getAttribute("userId").toString());
+        request.setAttribute(CustomUserDetails.ATTRIBUTE,
+                new CustomUserDetails(userId, (String) request.getAttribute("role"), userProfileCache.get(userId)));
+
         filterChain.doFilter(request, response);
     }
 
@@ -0,0 +1,22 @@
+package kr.kakaotech.community.auth;
+
+/**
+ * 경로별 인증 정책
+ *
+ * 선언 순서가 허용 범위가 넓은 순서입니다. 여러 규칙이 겹치면 앞쪽 정책을 따릅니다.
+ */
+public enum RoutePolicy {
+    // 필터를 타지 않음
+    PUBLIC,
+    // 비로그인도 허용, 로그인 상태면 사용자 정보 주입
+    OPTIONAL,
+    // 로그인 필수
+    REQUIRED;
+
+    RoutePolicy or(RoutePolicy other) {
+        if (other == null) {
+            return this;
+        }
+        return ordinal() <= other.ordinal() ? this : other;
+    }
+}
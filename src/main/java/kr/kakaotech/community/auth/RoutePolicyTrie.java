@@ -0,0 +1,214 @@
+package kr.kakaotech.community.auth;
+
+import java.util.Arrays;
+
+/**
+ * HTTP method + 경로 세그먼트 trie
+ *
+ * 시작할 때 한 번 만들고 이후에는 읽기만 합니다.
+ * 조회는 URI 를 '/' 기준으로 인덱스만 옮겨가며 걷기 때문에 문자열을 자르거나 정규식을 만들지 않습니다.
+ *
+ * - route("GET", "/api/posts/{id}", PUBLIC) : 세그먼트 개수까지 정확히 일치, {id} 는 숫자 세그먼트
+ * - route("GET", "/api/users/{uuid}/posts", PUBLIC) : {uuid} 는 8-4-4-4-12 형식의 UUID 세그먼트
+ * - prefix("/api/auth", PUBLIC)             : 기존 startsWith 와 같은 문자열 접두사 일치, method 무관
+ * - 어떤 규칙에도 걸리지 않으면 REQUIRED
+ */
+public final class RoutePolicyTrie {
+
+    private static final String ID_SEGMENT = "{id}";
+    private static final String UUID_SEGMENT = "{uuid}";
+    private static final int UUID_LENGTH = 36;
+    private static final String ANY_METHOD = "*";
+
+    private static final int GET = 0;
+    private static final int POST = 1;
+    private static final int PUT = 2;
+    private static final int PATCH = 3;
+    private static final int DELETE = 4;
+    private static final int OTHER = 5;
+    private static final int ANY = 6;
+    private static final int METHOD_SLOTS = 7;
+
+    private final Node root = new Node();
+
+    public RoutePolicyTrie route(String method, String pattern, RoutePolicy policy) {
+        Node node = root;
+        for (String segment : segmentsOf(pattern)) {
+            node = node.child(segment);
+        }
+        node.exact[methodIndex(method)] = policy.or(node.exact[methodIndex(method)]);
+        return this;
+    }
+
+    public RoutePolicyTrie prefix(String prefix, RoutePolicy policy) {
+        String[] segments = segmentsOf(prefix);
+        Node node = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            node = node.child(segments[i]);
+        }
+        node.addPrefix(segments[segments.length - 1], policy);
+        return this;
+    }
+
+    /**
+     * 정책 결정
+     */
+    public RoutePolicy resolve(String method, String uri) {
+        if (uri == null || uri.isEmpty() || uri.charAt(0) != '/') {
+            return RoutePolicy.REQUIRED;
+        }
+
+        RoutePolicy policy = walk(root, uri, 1, methodIndex(method));
+        return policy == null ? RoutePolicy.REQUIRED : policy;
+    }
+
+    private RoutePolicy walk(Node node, String uri, int start, int method) {
+        RoutePolicy best = null;
+
+        // 접두사 규칙 : 남은 문자열이 접두사로 시작하면 일치
+        for (int i = 0; i < node.prefixCount; i++) {
+            if (uri.startsWith(node.prefixLiterals[i], start)) {
+                best = or(best, node.prefixPolicies[i]);
+            }
+        }
+
+        int end = uri.indexOf('/', start);
+        boolean last = end < 0;
+        if (last) {
+            end = uri.length();
+        }
+        int length = end - start;
+
+        for (int i = 0; i < node.literalCount; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && uri.regionMatches(start, literal, 0, length)) {
+                best = or(best, next(node.literalChildren[i], uri, end, last, method));
+                break;
+            }
+        }
+
+        if (node.idChild != null && isDigits(uri, start, end)) {
+            best = or(best, next(node.idChild, uri, end, last, method));
+        }
+
+        if (node.uuidChild != null && isUuid(uri, start, end)) {
+            best = or(best, next(node.uuidChild, uri, end, last, method));
+        }
+
+        return best;
+    }
+
+    private RoutePolicy next(Node child, String uri, int end, boolean last, int method) {
+        if (last) {
+            return or(child.exact[method], child.exact[ANY]);
+        }
+        return walk(child, uri, end + 1, method);
+    }
+
+    private static RoutePolicy or(RoutePolicy current, RoutePolicy other) {
+        if (current == null) {
+            return other;
+        }
+        return current.or(other);
+    }
+
+    private static boolean isDigits(String uri, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUuid(String uri, int start, int end) {
+        if (end - start != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = uri.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int methodIndex(String method) {
+        if (method == null) {
+            return OTHER;
+        }
+        return switch (method) {
+            case "GET" -> GET;
+            case "POST" -> POST;
+            case "PUT" -> PUT;
+            case "PATCH" -> PATCH;
+            case "DELETE" -> DELETE;
+            case ANY_METHOD -> ANY;
+            default -> OTHER;
+        };
+    }
+
+    private static String[] segmentsOf(String pattern) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로는 / 로 시작해야 합니다: " + pattern);
+        }
+        return pattern.substring(1).split("/", -1);
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private int literalCount;
+        private Node idChild;
+        private Node uuidChild;
+
+        private String[] prefixLiterals = new String[0];
+        private RoutePolicy[] prefixPolicies = new RoutePolicy[0];
+        private int prefixCount;
+
+        private final RoutePolicy[] exact = new RoutePolicy[METHOD_SLOTS];
+
+        private Node child(String segment) {
+            if (ID_SEGMENT.equals(segment)) {
+                if (idChild == null) {
+                    idChild = new Node();
+                }
+                return idChild;
+            }
+            if (UUID_SEGMENT.equals(segment)) {
+                if (uuidChild == null) {
+                    uuidChild = new Node();
+                }
+                return uuidChild;
+            }
+
+            for (int i = 0; i < literalCount; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+
+            literals = Arrays.copyOf(literals, literalCount + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalCount + 1);
+            literals[literalCount] = segment;
+            literalChildren[literalCount] = new Node();
+            return literalChildren[literalCount++];
+        }
+
+        private void addPrefix(String literal, RoutePolicy policy) {
+            prefixLiterals = Arrays.copyOf(prefixLiterals, prefixCount + 1);
+            prefixPolicies = Arrays.copyOf(prefixPolicies, prefixCount + 1);
+            prefixLiterals[prefixCount] = literal;
+            prefixPolicies[prefixCount++] = policy;
+        }
+    }
+}
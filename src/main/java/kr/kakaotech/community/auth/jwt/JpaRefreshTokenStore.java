@@ -0,0 +1,50 @@
+package kr.kakaotech.community.auth.jwt;
+
+import kr.kakaotech.community.entity.RefreshToken;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * refresh_tokens 테이블 저장소
+ *
+ * 만료된 row 는 RefreshTokenPurgeJob 이 주기적으로 지웁니다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.expirationtime.refreshTtl}")
+    private int refreshTtl;
+
+    @Transactional
+    @Override
+    public void save(UUID userId, String token) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+        refreshTokenRepository.save(new RefreshToken(userId, token, refreshTtl));
+    }
+
+    /**
+     * UPDATE 한 번으로 비교와 교체를 같이 합니다.
+     */
+    @Transactional
+    @Override
+    public boolean rotate(UUID userId, String expected, String next) {
+        return refreshTokenRepository.rotate(userId, expected, next, LocalDateTime.now().plusSeconds(refreshTtl)) == 1;
+    }
+
+    @Transactional
+    @Override
+    public void delete(UUID userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+}
@@ -1,6 +1,5 @@
 package kr.kakaotech.community.auth.jwt;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.Cookie;
@@ -15,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,6 +23,7 @@ import java.util.Optional;
 public class JwtFilter implements AuthenticationStrategy {
 
     private final JwtProvider jwtProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     private final String ACCESS_TOKEN = "accessToken";
     private final String REFRESH_TOKEN = "refreshToken";
 
@@ -58,13 +59,20 @@ public class JwtFilter implements AuthenticationStrategy {
     @Override
     public void setAttributeByAuth(String token, HttpServletRequest request) {
         try {
-            // claims 얻으면서 만료 검증도 같이 진행됨
-            Claims claims = jwtProvider.parseToken(token);
+            // 처음 보는 토큰이면 서명, 만료 검증 후 캐시 / 이미 검증된 토큰이면 캐시에서 꺼냄
+            JwtProvider.VerifiedToken verified = jwtProvider.verifyAccess(token);
 
-            request.setAttribute("userId", claims.getSubject());
-            request.setAttribute("role", claims.get("role", String.class));
+            // 비밀번호 변경, 탈퇴, 로그아웃으로 무효화된 사용자인지 - 대부분 Bloom filter 에서 끝남
+            if (tokenRevocationRegistry.isRevoked(UUID.fromString(verified.userId()), verified.issuedAtMillis())) {
+                throw new CustomException(ErrorCode.INVALID_TOKEN);
+            }
+
+            request.setAttribute("userId", verified.userId());
+            request.setAttribute("role", verified.role());
 
             log.info("Request URI : {}", request.getRequestURI());
+        } catch (CustomException e) {
+            throw e;
         } catch (SignatureException e) {
             log.error("JWT 서명 에러");
             throw new CustomException(ErrorCode.NON_SIGNATURE_JWT);
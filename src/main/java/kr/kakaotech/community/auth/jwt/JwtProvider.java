@@ -1,6 +1,7 @@
 package kr.kakaotech.community.auth.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,28 +14,74 @@ import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtProvider {
+    // 표준 iat 는 초 단위라 무효화 시각과 같은 초에 다시 발급된 토큰을 구분할 수 없어 ms 를 따로 넣습니다.
+    static final String ISSUED_AT_MILLIS = "iatMs";
+
     private final SecretKey secretKey;
+    // 불변이라 한 번만 만들어서 재사용
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     @Value("${jwt.expirationtime.accessTtl}")
     private int accessTtlSec;
     @Value("${jwt.expirationtime.refreshTtl}")
     private int refreshTtlSec;
 
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${jwt.cache.max-size:10000}") int cacheMaxSize) {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(cacheMaxSize);
     }
 
     // 검증
     public Claims parseToken(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Access 토큰 검증
+     *
+     * 한 번 검증된 토큰은 만료 시각까지 캐시에서 꺼내 쓰므로
+     * 같은 토큰이 다시 오면 서명 검증과 JSON 파싱을 건너뜁니다.
+     */
+    public VerifiedToken verifyAccess(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token, System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseToken(token);
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                issuedAtMillis(claims),
+                claims.getExpiration().getTime()
+        );
+        verifiedTokenCache.put(token, verified);
+
+        return verified;
+    }
+
+    /**
+     * iatMs 가 없는 토큰(배포 전 발급)은 초 단위 iat 로 대신합니다.
+     */
+    private long issuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        return claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime();
     }
 
     // 생성
     public String createAccess(String userId, String role) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .subject(userId)
                 .claim("role", role)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(accessTtlSec)))
+                .claim(ISSUED_AT_MILLIS, now)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.SECONDS.toMillis(accessTtlSec)))
                 .signWith(secretKey)
                 .compact();
     }
@@ -49,4 +96,7 @@ public class JwtProvider {
                 .signWith(secretKey)
                 .compact();
     }
+
+    public record VerifiedToken(String userId, String role, long issuedAtMillis, long expiresAtMillis) {
+    }
 }
@@ -0,0 +1,58 @@
+package kr.kakaotech.community.auth.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 저장소 - 사용자당 키 하나, TTL = refreshTtl
+ *
+ * 만료는 Redis TTL 이 처리하므로 별도 정리 작업이 필요 없습니다.
+ * 토큰 갱신은 Lua 스크립트로 비교와 교체를 한 번의 왕복에 원자적으로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refreshToken:";
+
+    private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${jwt.expirationtime.refreshTtl}")
+    private int refreshTtl;
+
+    public RedisRefreshTokenStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public void save(UUID userId, String token) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, token, refreshTtl, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean rotate(UUID userId, String expected, String next) {
+        Long rotated = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + userId),
+                expected, next, String.valueOf(refreshTtl));
+        return rotated != null && rotated == 1L;
+    }
+
+    @Override
+    public void delete(UUID userId) {
+        stringRedisTemplate.delete(KEY_PREFIX + userId);
+    }
+}
@@ -0,0 +1,59 @@
+package kr.kakaotech.community.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 다중 노드용 - 토큰 무효화를 Redis pub/sub 으로 모든 노드에 전달합니다.
+ *
+ * 메시지는 "userId:notBefore" 형식이고, 받은 노드는 DB 조회 없이 바로 필터와 not-before 를 반영합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.relay", havingValue = "redis")
+public class RedisTokenRevocationRelay implements MessageListener {
+
+    private static final String CHANNEL = "jwt:revoked";
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisTokenRevocationRelay(TokenRevocationRegistry tokenRevocationRegistry, StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer revocationListenerContainer) {
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.stringRedisTemplate = stringRedisTemplate;
+        revocationListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(TokenRevokedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, event.userId() + ":" + event.notBefore());
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 DB 에서 읽어옴
+            log.warn("[RedisTokenRevocationRelay] 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            tokenRevocationRegistry.apply(UUID.fromString(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)));
+        } catch (Exception e) {
+            log.error("[RedisTokenRevocationRelay] 메시지 처리 실패", e);
+        }
+    }
+}
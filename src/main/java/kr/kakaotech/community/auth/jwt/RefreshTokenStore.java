@@ -0,0 +1,19 @@
+package kr.kakaotech.community.auth.jwt;
+
+import java.util.UUID;
+
+/**
+ * Refresh 토큰 저장소
+ *
+ * 사용자당 유효한 refresh 토큰은 하나만 유지합니다.
+ * jwt.refresh-store 로 구현체를 고릅니다. (jpa 기본, redis)
+ */
+public interface RefreshTokenStore {
+    // 기존 토큰을 버리고 새 토큰 저장
+    void save(UUID userId, String token);
+
+    // 저장된 토큰이 expected 와 같을 때만 next 로 교체, 교체 성공 여부 반환
+    boolean rotate(UUID userId, String expected, String next);
+
+    void delete(UUID userId);
+}
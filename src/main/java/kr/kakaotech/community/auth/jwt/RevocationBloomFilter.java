@@ -0,0 +1,84 @@
+package kr.kakaotech.community.auth.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 무효화된 userId 용 Bloom filter
+ *
+ * 비트는 AtomicLongArray 에 두고 CAS 로만 켜므로 조회와 추가를 락 없이 동시에 할 수 있습니다.
+ * 해시는 UUID 의 두 long 을 섞은 값 두 개로 k 개 위치를 만듭니다. (Kirsch-Mitzenmacher)
+ */
+class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+    private final AtomicInteger setBits = new AtomicInteger();
+
+    RevocationBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    void add(UUID userId) {
+        long h1 = mix(userId.getMostSignificantBits() ^ Long.rotateLeft(userId.getLeastSignificantBits(), 32));
+        long h2 = mix(userId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            set(index(h1, h2, i));
+        }
+    }
+
+    boolean mightContain(UUID userId) {
+        long h1 = mix(userId.getMostSignificantBits() ^ Long.rotateLeft(userId.getLeastSignificantBits(), 32));
+        long h2 = mix(userId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 계산한 오탐 확률 추정치
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitSize, hashCount);
+    }
+
+    int bitSize() {
+        return bitSize;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitSize);
+    }
+
+    private void set(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                setBits.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,182 @@
+package kr.kakaotech.community.auth.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kakaotech.community.entity.TokenRevocation;
+import kr.kakaotech.community.repository.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access 토큰 무효화 목록
+ *
+ * - 무효화된 userId 는 token_revocations 에 not-before 시각과 함께 기록합니다.
+ * - 요청마다 보는 것은 메모리의 Bloom filter 뿐이고, Bloom 에 걸린 경우에만 정확한 not-before 를 확인합니다.
+ *   확인한 값은 노드 메모리에 두므로 DB 조회는 사용자당 한 번입니다.
+ * - 다른 노드의 무효화는 relay(pub/sub) 로 받고, 놓친 메시지는 주기적인 재구성으로 맞춥니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    // DB 에 기록이 없음 (Bloom 오탐)
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, Long> notBefores = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter bloomFilter;
+    // 재구성 중에 들어온 무효화도 새 필터에 넣기 위함
+    private volatile RevocationBloomFilter building;
+
+    private final Counter bloomHitCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter rejectedCounter;
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    @Value("${jwt.expirationtime.accessTtl}")
+    private int accessTtl;
+    @Value("${jwt.revocation.purge-enabled:true}")
+    private boolean purgeEnabled;
+
+    public TokenRevocationRegistry(TokenRevocationRepository tokenRevocationRepository,
+                                   RefreshTokenStore refreshTokenStore,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                   @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.bloomHitCounter = Counter.builder("jwt.revocation.bloom.hits").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("jwt.revocation.bloom.false_positives").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("jwt.revocation.rejected").register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.expected_fpp", this, registry -> registry.bloomFilter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.entries", notBefores, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 지금까지 발급된 토큰 모두 무효화
+     *
+     * refresh 토큰은 바로 지우고, access 토큰은 not-before(ms) 를 기록합니다.
+     * 무효화 직후 같은 초 안에 다시 로그인해서 받은 토큰은 not-before 이후에 발급되었으므로 유효합니다.
+     */
+    @Transactional
+    public void revoke(UUID userId) {
+        long notBefore = Instant.now().toEpochMilli();
+
+        tokenRevocationRepository.findById(userId).ifPresentOrElse(
+                revocation -> revocation.updateNotBefore(notBefore),
+                () -> tokenRevocationRepository.save(new TokenRevocation(userId, notBefore))
+        );
+        refreshTokenStore.delete(userId);
+
+        eventPublisher.publishEvent(new TokenRevokedEvent(userId, notBefore));
+    }
+
+    /**
+     * 커밋된 뒤에 로컬 필터에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(TokenRevokedEvent event) {
+        apply(event.userId(), event.notBefore());
+    }
+
+    /**
+     * 이 노드 또는 다른 노드의 무효화 반영
+     */
+    public void apply(UUID userId, long notBefore) {
+        bloomFilter.add(userId);
+        RevocationBloomFilter next = building;
+        if (next != null) {
+            next.add(userId);
+        }
+        notBefores.merge(userId, notBefore, Math::max);
+    }
+
+    /**
+     * issuedAtMillis(epoch milli) 에 발급된 토큰이 무효화됐는지 확인
+     */
+    public boolean isRevoked(UUID userId, long issuedAtMillis) {
+        if (!bloomFilter.mightContain(userId)) {
+            return false;
+        }
+        bloomHitCounter.increment();
+
+        Long notBefore = notBefores.get(userId);
+        if (notBefore == null) {
+            Long found = tokenRevocationRepository.findNotBeforeByUserId(userId);
+            notBefore = notBefores.merge(userId, found == null ? NONE : found, Math::max);
+        }
+
+        if (notBefore == NONE) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+        if (issuedAtMillis < notBefore) {
+            rejectedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Bloom filter 재구성
+     *
+     * access 토큰 TTL 보다 오래된 기록은 지운 뒤 남은 userId 로 새 필터를 만들어 교체합니다.
+     * 삭제된 userId 는 오탐 원인이 되지 않도록 필터와 메모리에서도 빠집니다.
+     * purge-enabled 가 false 인 노드(피드 등)는 지우지 않고 필터만 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-ms:600000}", initialDelayString = "${jwt.revocation.rebuild-ms:600000}")
+    public void rebuild() {
+        long threshold = Instant.now().toEpochMilli() - TimeUnit.SECONDS.toMillis(accessTtl);
+        RevocationBloomFilter next = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+
+        try {
+            int purged = purgeEnabled
+                    ? transactionTemplate.execute(status -> tokenRevocationRepository.deleteOlderThan(threshold))
+                    : 0;
+            List<UUID> userIds = tokenRevocationRepository.findAllUserIds();
+            userIds.forEach(next::add);
+
+            bloomFilter = next;
+            notBefores.values().removeIf(notBefore -> notBefore < threshold);
+
+            log.info("[TokenRevocationRegistry] 재구성 entries={}, purged={}, expectedFpp={}",
+                    userIds.size(), purged, String.format("%.6f", next.expectedFalsePositiveRate()));
+        } finally {
+            building = null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kr.kakaotech.community.auth.jwt;
+
+import java.util.UUID;
+
+/**
+ * 사용자 access 토큰 무효화 - 커밋 후 로컬 반영과 노드 간 전달에 사용
+ *
+ * @param notBefore epoch milli
+ */
+public record TokenRevokedEvent(UUID userId, long notBefore) {
+}
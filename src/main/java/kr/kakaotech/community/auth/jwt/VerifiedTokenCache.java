@@ -0,0 +1,78 @@
+package kr.kakaotech.community.auth.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 JWT 캐시
+ *
+ * key 는 토큰의 서명부(HMAC-SHA256 digest)를 사용하고, 꺼낼 때 토큰 전체가 같은지 한 번 더 비교합니다.
+ * 토큰마다 exp 가 지나면 캐시에서도 꺼내지 않습니다.
+ * 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 캐시에 넣지 않습니다.
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    JwtProvider.VerifiedToken get(String token, long nowMillis) {
+        String key = digestOf(token);
+        if (key == null) {
+            return null;
+        }
+
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.token().equals(token)) {
+            return null;
+        }
+        if (entry.verified().expiresAtMillis() <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.verified();
+    }
+
+    void put(String token, JwtProvider.VerifiedToken verified) {
+        String key = digestOf(token);
+        if (key == null || maxSize <= 0) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired(System.currentTimeMillis());
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(token, verified));
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long nowMillis) {
+        entries.values().removeIf(entry -> entry.verified().expiresAtMillis() <= nowMillis);
+    }
+
+    // header.payload.signature 중 signature
+    private String digestOf(String token) {
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0 || lastDot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(lastDot + 1);
+    }
+
+    private record Entry(String token, JwtProvider.VerifiedToken verified) {
+    }
+}
@@ -15,8 +15,4 @@ public class SessionDao {
     private String role;
     private LocalDateTime createdAt;
     private LocalDateTime lastAccessedAt;
-
-    public void updateLastAccessedTime() {
-        this.lastAccessedAt = LocalDateTime.now();
-    }
 }
@@ -0,0 +1,113 @@
+package kr.kakaotech.community.auth.session;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.kakaotech.community.entity.UserRole;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * SessionDao 전용 고정 길이 바이너리 직렬화
+ *
+ * [version 1][sessionId 16][userId 16][role ordinal 1][createdAt 8][lastAccessedAt 8] = 50 bytes
+ *
+ * - 시각은 LocalDateTime 값을 UTC 기준 epoch second 로 저장합니다. (초 미만은 버림, null 은 Long.MIN_VALUE)
+ * - role 은 UserRole ordinal 이므로 enum 순서를 바꾸면 VERSION 을 올려야 합니다.
+ * - 이전 GenericJackson2JsonRedisSerializer 로 저장된 JSON 세션도 읽을 수 있습니다.
+ */
+public class SessionDaoRedisSerializer implements RedisSerializer<SessionDao> {
+
+    static final byte VERSION = 1;
+    static final int SIZE = 1 + 16 + 16 + 1 + 8 + 8;
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final UserRole[] ROLES = UserRole.values();
+
+    // 이전 JSON 형식 읽기용
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public byte[] serialize(SessionDao session) throws SerializationException {
+        if (session == null) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+            buffer.put(VERSION);
+            putUuid(buffer, UUID.fromString(session.getSessionId()));
+            putUuid(buffer, UUID.fromString(session.getUserId()));
+            buffer.put((byte) UserRole.valueOf(session.getRole()).ordinal());
+            buffer.putLong(toEpochSecond(session.getCreatedAt()));
+            buffer.putLong(toEpochSecond(session.getLastAccessedAt()));
+
+            return buffer.array();
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("세션 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public SessionDao deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == '{') {
+            return readLegacyJson(bytes);
+        }
+        if (bytes[0] != VERSION || bytes.length != SIZE) {
+            throw new SerializationException("지원하지 않는 세션 형식 : version=" + bytes[0] + ", length=" + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, SIZE - 1);
+        String sessionId = getUuid(buffer).toString();
+        String userId = getUuid(buffer).toString();
+        int role = buffer.get();
+        if (role < 0 || role >= ROLES.length) {
+            throw new SerializationException("알 수 없는 role : " + role);
+        }
+        LocalDateTime createdAt = fromEpochSecond(buffer.getLong());
+        LocalDateTime lastAccessedAt = fromEpochSecond(buffer.getLong());
+
+        return new SessionDao(sessionId, userId, ROLES[role].name(), createdAt, lastAccessedAt);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return SessionDao.class;
+    }
+
+    private SessionDao readLegacyJson(byte[] bytes) {
+        try {
+            return LEGACY_MAPPER.readValue(bytes, SessionDao.class);
+        } catch (IOException e) {
+            throw new SerializationException("이전 JSON 세션 역직렬화 실패", e);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time == null ? NULL_TIME : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpochSecond(long epochSecond) {
+        return epochSecond == NULL_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
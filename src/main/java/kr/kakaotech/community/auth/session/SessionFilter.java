@@ -1,7 +1,5 @@
 package kr.kakaotech.community.auth.session;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import kr.kakaotech.community.auth.AuthenticationStrategy;
@@ -14,7 +12,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
-import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -23,13 +20,16 @@ import java.util.concurrent.TimeUnit;
 @ConditionalOnProperty(name = "auth.type", havingValue = "session")
 public class SessionFilter implements AuthenticationStrategy {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, SessionDao> sessionRedisTemplate;
+    private final SessionNearCache sessionNearCache;
 
     private final String Session_Cookie_Name = "JSESSIONID";
     private final String SESSION_PREFIX = "sessionKey:";
 
     @Value("${session.sessionTtl}")
     private int sessionTtl;
+    @Value("${session.refresh-threshold:1500}")
+    private int refreshThreshold;
 
     /**
      * 인증 추출만 진행
@@ -50,28 +50,36 @@ public class SessionFilter implements AuthenticationStrategy {
      * 인증을 검증하고 request에 넣어줌
      *
      * session은 db에서 검증.
+     * near-cache 에 있으면 Redis 를 거치지 않고, 남은 TTL 이 refresh-threshold 보다 작을 때만 EXPIRE 로 연장합니다.
+     * 캐시에 없으면 GETEX 한 번으로 조회와 TTL 연장을 같이 합니다.
+     * 마지막 접근 시각은 Redis 키의 TTL 로 대신하므로 세션 값을 다시 쓰지 않습니다.
      */
     @Override
     public void setAttributeByAuth(String sessionId, HttpServletRequest request) {
         String key = SESSION_PREFIX + sessionId;
+        long now = System.currentTimeMillis();
+        long ttlMillis = TimeUnit.SECONDS.toMillis(sessionTtl);
 
-        Object value = redisTemplate.opsForValue().get(key);
-        SessionDao sessionDao = null;
-        if (value instanceof SessionDao) {
-            sessionDao = (SessionDao) value;
-        } else if (value instanceof LinkedHashMap) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            sessionDao = mapper.convertValue(value, SessionDao.class);
-        }
+        SessionDao sessionDao;
+        SessionNearCache.Entry cached = sessionNearCache.get(sessionId, now);
+        if (cached != null) {
+            sessionDao = cached.sessionDao();
 
-        if (sessionDao == null) {
-            throw new CustomException(ErrorCode.INVALID_SESSION);
+            if (cached.redisExpiresAtMillis() - now < TimeUnit.SECONDS.toMillis(refreshThreshold)) {
+                if (!Boolean.TRUE.equals(sessionRedisTemplate.expire(key, sessionTtl, TimeUnit.SECONDS))) {
+                    sessionNearCache.evict(sessionId);
+                    throw new CustomException(ErrorCode.INVALID_SESSION);
+                }
+                sessionNearCache.touch(sessionId, cached, now + ttlMillis);
+            }
+        } else {
+            sessionDao = sessionRedisTemplate.opsForValue().getAndExpire(key, sessionTtl, TimeUnit.SECONDS);
+            if (sessionDao == null) {
+                throw new CustomException(ErrorCode.INVALID_SESSION);
+            }
+            sessionNearCache.put(sessionId, sessionDao, now, now + ttlMillis);
         }
 
-        sessionDao.updateLastAccessedTime();
-        redisTemplate.opsForValue().set(key, sessionDao, sessionTtl, TimeUnit.SECONDS);
-
         request.setAttribute("userId", sessionDao.getUserId());
         request.setAttribute("role", sessionDao.getRole());
     }
@@ -0,0 +1,106 @@
+package kr.kakaotech.community.auth.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 세션의 로컬 near-cache
+ *
+ * - 노드 메모리에 ttl-ms 동안만 보관합니다. pub/sub 메시지를 놓쳐도 이 시간이 지나면 Redis 에서 다시 읽습니다.
+ * - Redis 키의 만료 예정 시각도 같이 들고 있어서, SessionFilter 가 EXPIRE 가 필요한지 왕복 없이 판단할 수 있습니다.
+ * - 로그아웃 시 invalidate 를 호출하면 모든 노드에 무효화 메시지를 발행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.type", havingValue = "session")
+public class SessionNearCache implements MessageListener {
+
+    private static final String CHANNEL = "session:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${session.near-cache.ttl-ms:5000}")
+    private long ttlMs;
+    @Value("${session.near-cache.max-size:10000}")
+    private int maxSize;
+
+    public SessionNearCache(StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer sessionListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        sessionListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Entry get(String sessionId, long nowMillis) {
+        Entry entry = entries.get(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.cachedUntilMillis() <= nowMillis || entry.redisExpiresAtMillis() <= nowMillis) {
+            entries.remove(sessionId, entry);
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * @param redisExpiresAtMillis 마지막으로 TTL 을 설정한 시점 기준 Redis 키 만료 예정 시각
+     */
+    public void put(String sessionId, SessionDao sessionDao, long nowMillis, long redisExpiresAtMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (entries.size() >= maxSize && !entries.containsKey(sessionId)) {
+            entries.values().removeIf(entry -> entry.cachedUntilMillis() <= nowMillis);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(sessionId, new Entry(sessionDao, nowMillis + ttlMs, redisExpiresAtMillis));
+    }
+
+    /**
+     * Redis 키 TTL 을 갱신한 뒤 만료 예정 시각만 바꿔줍니다. 캐시 보관 시간은 그대로입니다.
+     */
+    public void touch(String sessionId, Entry entry, long redisExpiresAtMillis) {
+        entries.replace(sessionId, entry,
+                new Entry(entry.sessionDao(), entry.cachedUntilMillis(), redisExpiresAtMillis));
+    }
+
+    public void evict(String sessionId) {
+        entries.remove(sessionId);
+    }
+
+    /**
+     * 로컬에서 지우고 다른 노드에도 무효화 메시지 발행
+     */
+    public void invalidate(String sessionId) {
+        evict(sessionId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, sessionId);
+        } catch (Exception e) {
+            // 발행 실패해도 다른 노드는 ttl-ms 안에 Redis 에서 다시 읽으면서 정리됨
+            log.warn("[SessionNearCache] 무효화 메시지 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public record Entry(SessionDao sessionDao, long cachedUntilMillis, long redisExpiresAtMillis) {
+    }
+}
@@ -0,0 +1,60 @@
+package kr.kakaotech.community.availability;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다중 노드용 - 새로 사용된 이메일, 닉네임을 Redis pub/sub 으로 모든 노드에 전달합니다.
+ *
+ * 메시지는 "email\nnickname" 형식이고 바뀌지 않은 값은 빈 문자열입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-info.relay", havingValue = "redis")
+public class RedisUserInfoRelay implements MessageListener {
+
+    private static final String CHANNEL = "user-info:taken";
+
+    private final UserInfoAvailability userInfoAvailability;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisUserInfoRelay(UserInfoAvailability userInfoAvailability, StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer userInfoListenerContainer) {
+        this.userInfoAvailability = userInfoAvailability;
+        this.stringRedisTemplate = stringRedisTemplate;
+        userInfoListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaken(UserInfoTakenEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    (event.email() == null ? "" : event.email()) + "\n" + (event.nickname() == null ? "" : event.nickname()));
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 DB 에서 읽어옴
+            log.warn("[RedisUserInfoRelay] 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf('\n');
+            String email = body.substring(0, separator);
+            String nickname = body.substring(separator + 1);
+            userInfoAvailability.apply(email.isEmpty() ? null : email, nickname.isEmpty() ? null : nickname);
+        } catch (Exception e) {
+            log.error("[RedisUserInfoRelay] 메시지 처리 실패", e);
+        }
+    }
+}
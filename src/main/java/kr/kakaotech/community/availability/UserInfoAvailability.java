@@ -0,0 +1,188 @@
+package kr.kakaotech.community.availability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kakaotech.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일, 닉네임 사용 여부 사전 확인
+ *
+ * - 회원가입 폼의 실시간 중복 확인은 메모리의 Bloom filter 를 먼저 봅니다.
+ *   필터에 없으면 DB 조회 없이 바로 "사용 가능" 이고, 필터에 있을 때만 DB 로 확인합니다.
+ * - 필터에서 값을 뺄 수는 없으므로 닉네임 변경 전 값은 오탐으로 남고, 주기적인 재구성으로 정리됩니다.
+ * - 다른 노드의 변경은 relay(pub/sub) 로 받고, 놓친 메시지는 재구성으로 맞춥니다.
+ * - 첫 구성이 끝나기 전에는 모든 요청을 DB 로 보냅니다.
+ */
+@Slf4j
+@Component
+public class UserInfoAvailability {
+
+    public static final String EMAIL = "email";
+    public static final String NICKNAME = "nickname";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+
+    private volatile UserInfoBloomFilter bloomFilter;
+    // 재구성 중에 들어온 값도 새 필터에 넣기 위함
+    private volatile UserInfoBloomFilter building;
+    private volatile boolean ready;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private final Counter emailNegativeCounter;
+    private final Counter nicknameNegativeCounter;
+    private final Counter emailFalsePositiveCounter;
+    private final Counter nicknameFalsePositiveCounter;
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final int chunkSize;
+
+    public UserInfoAvailability(UserRepository userRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${user-info.bloom.expected-insertions:200000}") int expectedInsertions,
+                                @Value("${user-info.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${user-info.bloom.chunk-size:5000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.chunkSize = chunkSize;
+        this.bloomFilter = new UserInfoBloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.emailNegativeCounter = Counter.builder("user_info.bloom.negatives").tag("info", EMAIL).register(meterRegistry);
+        this.nicknameNegativeCounter = Counter.builder("user_info.bloom.negatives").tag("info", NICKNAME).register(meterRegistry);
+        this.emailFalsePositiveCounter = Counter.builder("user_info.bloom.false_positives").tag("info", EMAIL).register(meterRegistry);
+        this.nicknameFalsePositiveCounter = Counter.builder("user_info.bloom.false_positives").tag("info", NICKNAME).register(meterRegistry);
+        Gauge.builder("user_info.bloom.expected_fpp", this, availability -> availability.bloomFilter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용 중인지 확인
+     *
+     * 필터에 없으면 false, 있으면 dbCheck 결과를 반환합니다.
+     */
+    public boolean isTaken(String info, String value, Predicate<String> dbCheck) {
+        if (!ready || value == null) {
+            return dbCheck.test(value);
+        }
+
+        boolean isEmail = EMAIL.equals(info);
+        if (!bloomFilter.mightContain(key(info, value))) {
+            (isEmail ? emailNegativeCounter : nicknameNegativeCounter).increment();
+            return false;
+        }
+
+        boolean taken = dbCheck.test(value);
+        if (!taken) {
+            (isEmail ? emailFalsePositiveCounter : nicknameFalsePositiveCounter).increment();
+        }
+        return taken;
+    }
+
+    /**
+     * 커밋된 뒤에 로컬 필터에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaken(UserInfoTakenEvent event) {
+        apply(event.email(), event.nickname());
+    }
+
+    /**
+     * 이 노드 또는 다른 노드의 변경 반영
+     */
+    public void apply(String email, String nickname) {
+        UserInfoBloomFilter current = bloomFilter;
+        UserInfoBloomFilter next = building;
+        if (email != null) {
+            current.add(key(EMAIL, email));
+            if (next != null) {
+                next.add(key(EMAIL, email));
+            }
+        }
+        if (nickname != null) {
+            current.add(key(NICKNAME, nickname));
+            if (next != null) {
+                next.add(key(NICKNAME, nickname));
+            }
+        }
+    }
+
+    /**
+     * Bloom filter 재구성
+     *
+     * users 를 id 순서로 chunk-size 씩 읽어 새 필터를 만든 뒤 교체합니다.
+     * 이미 실행 중이면 -1 을 반환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user-info.bloom.rebuild-ms:3600000}", initialDelayString = "${user-info.bloom.rebuild-ms:3600000}")
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[UserInfoAvailability] 이미 재구성 중입니다.");
+            return -1;
+        }
+
+        try {
+            // 이메일, 닉네임 두 개씩 + 재구성 사이 가입 여유분
+            long expected = Math.max(expectedInsertions, userRepository.count() * 5 / 2);
+            UserInfoBloomFilter next = new UserInfoBloomFilter((int) Math.min(expected, Integer.MAX_VALUE), falsePositiveRate);
+            building = next;
+
+            int entries = 0;
+            UUID lastId = new UUID(0, 0);
+            List<UserInfoKey> chunk;
+            do {
+                chunk = userRepository.findUserInfoKeysAfter(lastId, PageRequest.ofSize(chunkSize));
+                for (UserInfoKey row : chunk) {
+                    if (row.email() != null) {
+                        next.add(key(EMAIL, row.email()));
+                    }
+                    next.add(key(NICKNAME, row.nickname()));
+                }
+                entries += chunk.size();
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == chunkSize);
+
+            bloomFilter = next;
+            ready = true;
+
+            log.info("[UserInfoAvailability] 재구성 users={}, bits={}, expectedFpp={}",
+                    entries, next.bitSize(), String.format("%.6f", next.expectedFalsePositiveRate()));
+            return entries;
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 필터 키
+     *
+     * MySQL 기본 collation 은 대소문자, 악센트, 뒤쪽 공백을 구분하지 않으므로 키도 같은 기준으로 접습니다.
+     * 더 거칠게 접는 쪽은 오탐만 늘 뿐 누락은 만들지 않습니다.
+     */
+    static String key(String info, String value) {
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return info + ':' + folded.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
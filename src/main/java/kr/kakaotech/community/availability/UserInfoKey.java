@@ -0,0 +1,9 @@
+package kr.kakaotech.community.availability;
+
+import java.util.UUID;
+
+/**
+ * Bloom filter 재구성용 users 조회 결과
+ */
+public record UserInfoKey(UUID id, String email, String nickname) {
+}
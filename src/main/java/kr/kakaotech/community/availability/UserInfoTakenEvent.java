@@ -0,0 +1,9 @@
+package kr.kakaotech.community.availability;
+
+/**
+ * 이메일, 닉네임 사용 시작 (가입, 닉네임 변경, 탈퇴 닉네임) - 커밋 후 로컬 반영과 노드 간 전달에 사용
+ *
+ * 바뀌지 않은 값은 null 입니다.
+ */
+public record UserInfoTakenEvent(String email, String nickname) {
+}
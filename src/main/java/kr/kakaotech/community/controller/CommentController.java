@@ -1,9 +1,12 @@
 package kr.kakaotech.community.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import kr.kakaotech.community.dto.ApiResponse;
 import kr.kakaotech.community.dto.request.CommentRequest;
 import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.dto.response.LikeResponse;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.LoginUser;
+import kr.kakaotech.community.service.CommentLikeService;
 import kr.kakaotech.community.service.CommentService;
 import kr.kakaotech.community.service.PostStatusService;
 import lombok.RequiredArgsConstructor;
@@ -13,44 +16,87 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.UUID;
+
 @RequiredArgsConstructor
 @RestController
 public class CommentController {
 
     private final CommentService commentService;
     private final PostStatusService postStatusService;
+    private final CommentLikeService commentLikeService;
 
     /**
      * 댓글 등록
      */
     @PostMapping("/posts/{postId}/comments")
-    public ResponseEntity<ApiResponse<Void>> registerComment(@PathVariable int postId, @RequestBody CommentRequest request, HttpServletRequest httpServletRequest) {
-        commentService.registerComment(httpServletRequest.getAttribute("userId").toString(), postId, request);
+    public ResponseEntity<ApiResponse<Void>> registerComment(@PathVariable int postId, @RequestBody CommentRequest request, @LoginUser CustomUserDetails loginUser) {
+        commentService.registerComment(loginUser, postId, request);
 
         ApiResponse<Void> apiResponse = new ApiResponse<>("댓글 등록 성공", null);
         return ResponseEntity.status(201).body(apiResponse);
     }
 
+    /**
+     * 답글 등록
+     */
+    @PostMapping("/comments/{commentId}/replies")
+    public ResponseEntity<ApiResponse<Void>> registerReply(@PathVariable int commentId, @RequestBody CommentRequest request, @LoginUser CustomUserDetails loginUser) {
+        commentService.registerReply(loginUser, commentId, request);
+
+        ApiResponse<Void> apiResponse = new ApiResponse<>("답글 등록 성공", null);
+        return ResponseEntity.status(201).body(apiResponse);
+    }
+
     /**
      * 게시글별 댓글 목록 조회 (페이징)
      */
     @GetMapping("/posts/{postId}/comments")
     public ResponseEntity<ApiResponse<Page<CommentResponse>>> getCommentList(
             @PathVariable int postId,
-            @PageableDefault(size = 100, sort = "createdAt") Pageable pageable
+            @PageableDefault(size = 100, sort = "createdAt") Pageable pageable,
+            @LoginUser(required = false) CustomUserDetails loginUser
     ) {
-        Page<CommentResponse> response = commentService.getCommentList(postId, pageable);
+        Page<CommentResponse> response = commentService.getCommentList(postId, getOptionalUserId(loginUser), pageable);
 
         ApiResponse<Page<CommentResponse>> apiResponse = new ApiResponse<>("댓글 목록 조회 성공", response);
         return ResponseEntity.ok(apiResponse);
     }
 
+    /**
+     * 게시글별 스레드 목록 조회
+     * 최상위 댓글 size 개 + 스레드별 앞쪽 답글 replies 개
+     */
+    @GetMapping("/posts/{postId}/comments/threads")
+    public ResponseEntity<ApiResponse<List<CommentResponse>>> getThreadList(
+            @PathVariable int postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies,
+            @LoginUser(required = false) CustomUserDetails loginUser
+    ) {
+        List<CommentResponse> response = commentService.getThreadList(postId, getOptionalUserId(loginUser), page, size, replies);
+
+        return ApiResponse.success("스레드 목록 조회 성공", response);
+    }
+
+    /**
+     * 스레드 전체 조회
+     */
+    @GetMapping("/comments/{commentId}/thread")
+    public ResponseEntity<ApiResponse<List<CommentResponse>>> getThread(@PathVariable int commentId, @LoginUser(required = false) CustomUserDetails loginUser) {
+        List<CommentResponse> response = commentService.getThread(commentId, getOptionalUserId(loginUser));
+
+        return ApiResponse.success("스레드 조회 성공", response);
+    }
+
     /**
      * 댓글 수정
      */
     @PatchMapping("/comments/{commentId}")
-    public ResponseEntity<ApiResponse<Void>> updateComment(@PathVariable int commentId, @RequestBody CommentRequest request, HttpServletRequest httpServletRequest) {
-        commentService.updateComment(httpServletRequest.getAttribute("userId").toString(), commentId, request);
+    public ResponseEntity<ApiResponse<Void>> updateComment(@PathVariable int commentId, @RequestBody CommentRequest request, @LoginUser CustomUserDetails loginUser) {
+        commentService.updateComment(loginUser.getUserId(), commentId, request);
 
         ApiResponse<Void> apiResponse = new ApiResponse<>("댓글 수정 성공", null);
         return ResponseEntity.ok(apiResponse);
@@ -60,12 +106,22 @@ public class CommentController {
      * 댓글 삭제
      */
     @PatchMapping("/comments/{commentId}/deactivation")
-    public ResponseEntity<ApiResponse<Void>> deleteComment(@PathVariable int commentId, HttpServletRequest httpServletRequest) {
-        commentService.deleteComment(httpServletRequest.getAttribute("userId").toString(), commentId);
+    public ResponseEntity<ApiResponse<Void>> deleteComment(@PathVariable int commentId, @LoginUser CustomUserDetails loginUser) {
+        commentService.deleteComment(loginUser.getUserId(), commentId);
 
         ApiResponse<Void> apiResponse = new ApiResponse<>("댓글 삭제 성공", null);
         return ResponseEntity.ok(apiResponse);
     }
-}
 
+    /**
+     * 댓글 좋아요 토글
+     */
+    @PostMapping("/comments/{commentId}/likes")
+    public ResponseEntity<ApiResponse<LikeResponse>> toggleCommentLike(@PathVariable int commentId, @LoginUser CustomUserDetails loginUser) {
+        return ApiResponse.success("댓글 좋아요 토글 성공", commentLikeService.toggleLike(loginUser.getUserId(), commentId));
+    }
 
+    private UUID getOptionalUserId(CustomUserDetails loginUser) {
+        return loginUser == null ? null : loginUser.getUserId();
+    }
+}
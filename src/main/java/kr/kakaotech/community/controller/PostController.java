@@ -1,6 +1,5 @@
 package kr.kakaotech.community.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import kr.kakaotech.community.dto.ApiResponse;
 import kr.kakaotech.community.dto.request.PostModifyRequest;
 import kr.kakaotech.community.dto.request.PostRegisterRequest;
@@ -8,15 +7,24 @@ import kr.kakaotech.community.dto.response.PostDetailResponse;
 import kr.kakaotech.community.dto.response.PostListResponse;
 import kr.kakaotech.community.dto.response.PostStatusResponse;
 import kr.kakaotech.community.dto.response.PostSummaryWithImageResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.LoginUser;
+import kr.kakaotech.community.job.PostStatusReconcileJob;
 import kr.kakaotech.community.service.PostService;
 import kr.kakaotech.community.service.PostStatusService;
+import kr.kakaotech.community.sse.PostEventHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,6 +33,8 @@ public class PostController {
 
     private final PostService postService;
     private final PostStatusService postStatusService;
+    private final PostEventHub postEventHub;
+    private final PostStatusReconcileJob postStatusReconcileJob;
 
     /**
      * 게시글 작성
@@ -32,9 +42,9 @@ public class PostController {
     @PostMapping("/posts")
     public ResponseEntity<ApiResponse<Integer>> registerPost(@ModelAttribute PostRegisterRequest postRegisterRequest,
                                                              @RequestPart(value = "postImages", required = false) List<MultipartFile> images,
-                                                             HttpServletRequest httpServletRequest) {
+                                                             @LoginUser CustomUserDetails loginUser) {
 
-        return ApiResponse.create("게시글 등록 성공", postService.registerPost(httpServletRequest.getAttribute("userId").toString(), postRegisterRequest, images));
+        return ApiResponse.create("게시글 등록 성공", postService.registerPost(loginUser, postRegisterRequest, images));
     }
 
     /**
@@ -61,6 +71,16 @@ public class PostController {
         return ApiResponse.success(wanted + "게시글 목록 조회 성공", response);
     }
 
+    /**
+     * 작성자 피드 불러오기
+     */
+    @GetMapping("/users/{userId}/posts")
+    public ResponseEntity<ApiResponse<PostListResponse>> getAuthorPostList(@PathVariable UUID userId,
+                                                                           @RequestParam(required = false) Integer cursor,
+                                                                           @RequestParam(defaultValue = "5") int size) {
+        return ApiResponse.success("작성자 게시글 목록 조회 성공", postService.getAuthorPostList(userId, cursor, size));
+    }
+
     @GetMapping("/posts/top10")
     public ResponseEntity<ApiResponse<PostListResponse>> getPostList() {
         return ApiResponse.success("게시글 목록 조회 성공", postService.getPostTop10List());
@@ -96,6 +116,17 @@ public class PostController {
         return ApiResponse.success("게시글 Status 입니다.", postStatusResponse);
     }
 
+    /**
+     * 게시글 실시간 이벤트 구독 (SSE)
+     * 새 댓글(comment)과 카운터(counters) 이벤트를 보냅니다.
+     */
+    @GetMapping(value = "/posts/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPost(@PathVariable int postId) {
+        postService.validatePostExists(postId);
+
+        return postEventHub.subscribe(postId);
+    }
+
     /**
      * 게시글 수정
      */
@@ -103,11 +134,9 @@ public class PostController {
     public ResponseEntity<ApiResponse<Object>> updatePost(@PathVariable int postId,
                                                            @ModelAttribute PostModifyRequest postModifyRequest,
                                                            @RequestPart(value = "postImages", required = false) List<MultipartFile> images,
-                                                           HttpServletRequest httpServletRequest) {
+                                                           @LoginUser CustomUserDetails loginUser) {
 
-        String userId = httpServletRequest.getAttribute("userId").toString();
-
-        postService.updatePost(postId, userId, postModifyRequest, images);
+        postService.updatePost(postId, loginUser.getUserId(), postModifyRequest, images);
 
         return ApiResponse.success("게시글 수정 성공", null);
     }
@@ -116,17 +145,22 @@ public class PostController {
      * 게시글 삭제
      */
     @PatchMapping("/posts/{postId}/deactivation")
-    public ResponseEntity<ApiResponse<Object>> deactivatePost(@PathVariable int postId, HttpServletRequest httpServletRequest) {
-        postService.deletePost(postId, httpServletRequest.getAttribute("userId").toString());
+    public ResponseEntity<ApiResponse<Object>> deactivatePost(@PathVariable int postId, @LoginUser CustomUserDetails loginUser) {
+        postService.deletePost(postId, loginUser.getUserId());
 
         return ApiResponse.success("삭제 성공", null);
     }
 
     /**
      * 게시글 상태 맞추기
+     * 좋아요 수, 댓글 수를 실제 데이터 기준으로 다시 계산합니다.
      */
     @PostMapping("/post-status")
-    public ResponseEntity<ApiResponse<Object>> syncPostStatus() {
-        return ApiResponse.success("싱크 성공", null);
+    public ResponseEntity<ApiResponse<PostStatusReconcileJob.ReconcileResult>> syncPostStatus(@LoginUser CustomUserDetails loginUser) {
+        if (!loginUser.isAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+
+        return ApiResponse.success("싱크 성공", postStatusReconcileJob.run());
     }
 }
@@ -1,9 +1,10 @@
 package kr.kakaotech.community.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import kr.kakaotech.community.dto.ApiResponse;
 import kr.kakaotech.community.dto.response.LikeResponse;
 import kr.kakaotech.community.dto.response.PostTypeCountResponse;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.LoginUser;
 import kr.kakaotech.community.service.LikeService;
 import kr.kakaotech.community.service.PostStatusService;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +16,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -26,17 +26,15 @@ public class PostStatusController {
     private final PostStatusService postStatusService;
 
     @PostMapping("/posts/{postId}/likes")
-    public ResponseEntity<ApiResponse<LikeResponse>> toggleLike(@PathVariable int postId, HttpServletRequest request) {
-        UUID userId = UUID.fromString(request.getAttribute("userId").toString());
-
-        return ApiResponse.success("좋아요 토글 성공", likeService.toggleLike(userId, postId));
+    public ResponseEntity<ApiResponse<LikeResponse>> toggleLike(@PathVariable int postId, @LoginUser CustomUserDetails loginUser) {
+        return ApiResponse.success("좋아요 토글 성공", likeService.toggleLike(loginUser.getUserId(), postId));
     }
 
     @GetMapping("/posts/{postId}/likes")
-    public ResponseEntity<ApiResponse<LikeResponse>> getLikeStatus(@PathVariable int postId, HttpServletRequest request) {
-        Optional<Object> optionalUserId = Optional.ofNullable(request.getAttribute("userId"));
+    public ResponseEntity<ApiResponse<LikeResponse>> getLikeStatus(@PathVariable int postId, @LoginUser(required = false) CustomUserDetails loginUser) {
+        UUID userId = loginUser == null ? null : loginUser.getUserId();
 
-        LikeResponse likeResponse = new LikeResponse(likeService.getLikeStatus(optionalUserId, postId), likeService.getLikeCount(postId));
+        LikeResponse likeResponse = new LikeResponse(likeService.getLikeStatus(userId, postId), likeService.getLikeCount(postId));
         return ApiResponse.success("좋아요 상태", likeResponse);
     }
 
@@ -2,28 +2,36 @@ package kr.kakaotech.community.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.kakaotech.community.availability.UserInfoAvailability;
 import kr.kakaotech.community.dto.ApiResponse;
 import kr.kakaotech.community.dto.request.UserPasswordRequest;
 import kr.kakaotech.community.dto.request.UserRegisterRequest;
 import kr.kakaotech.community.dto.request.UserUpdateRequest;
 import kr.kakaotech.community.dto.response.UserDetailResponse;
+import kr.kakaotech.community.dto.response.UserListResponse;
+import kr.kakaotech.community.dto.response.UserSearchResponse;
+import kr.kakaotech.community.dto.response.UserStatusResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.LoginUser;
 import kr.kakaotech.community.service.AuthService;
 import kr.kakaotech.community.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.UUID;
+
 @RequiredArgsConstructor
 @RestController
 public class UserController {
 
     private final UserService userService;
     private final AuthService authService;
+    private final UserInfoAvailability userInfoAvailability;
 
     /**
      * 회원가입
@@ -46,17 +54,30 @@ public class UserController {
         return ApiResponse.success("단일 회원 조회 성공", userDetailResponse);
     }
 
+    /**
+     * 작성자 통계 불러오기 (게시글 수, 받은 좋아요 수)
+     */
+    @GetMapping("/users/{userId}/statuses")
+    public ResponseEntity<ApiResponse<UserStatusResponse>> getUserStatus(@PathVariable UUID userId) {
+        return ApiResponse.success("작성자 통계 조회 성공", userService.getUserStatus(userId));
+    }
+
     /**
      * 회원 리스트 불러오기
      */
     @GetMapping("/users")
-    public ResponseEntity<ApiResponse<Page<UserDetailResponse>>> getUserList(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+    public ResponseEntity<ApiResponse<UserListResponse>> getUserList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean exactCount,
+            @LoginUser CustomUserDetails loginUser
     ) {
-        Page<UserDetailResponse> userPage = userService.getUserPage(pageable);
+        if (!loginUser.isAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+        UserListResponse userList = userService.getUserList(cursor, Math.min(Math.max(size, 1), 100), exactCount);
 
-        ApiResponse<Page<UserDetailResponse>> response = new ApiResponse<>("모든 회원 불러오기 성공", userPage);
+        ApiResponse<UserListResponse> response = new ApiResponse<>("모든 회원 불러오기 성공", userList);
         return ResponseEntity.status(200).body(response);
     }
 
@@ -82,8 +103,8 @@ public class UserController {
      * 2. Auth 쿠키 삭제
      */
     @PatchMapping("/users/{userId}/deactivation")
-    public void deleteUser(@PathVariable String userId, @RequestBody UserPasswordRequest userPasswordRequest, HttpServletRequest request, HttpServletResponse response) {
-        String cookieId = request.getAttribute("userId").toString();
+    public void deleteUser(@PathVariable String userId, @RequestBody UserPasswordRequest userPasswordRequest, @LoginUser CustomUserDetails loginUser, HttpServletRequest request, HttpServletResponse response) {
+        String cookieId = loginUser.getUserId().toString();
 
         userService.softDeleteUser(userId, cookieId, userPasswordRequest.getCurrentPassword());
         authService.deleteAuth(request, response);
@@ -113,12 +134,34 @@ public class UserController {
         return ApiResponse.success("duplication 결과", userService.duplicateCheckUserInfo(userInfo, nickname));
     }
 
+    /**
+     * 닉네임 prefix 검색 (@멘션, 작성자 검색 자동완성)
+     */
+    @GetMapping("/users/search")
+    public ResponseEntity<ApiResponse<List<UserSearchResponse>>> searchUsers(@RequestParam String prefix,
+                                                                             @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.success("검색 결과", userService.searchUsers(prefix, size));
+    }
+
+    /**
+     * 이메일, 닉네임 Bloom filter 재구성 (관리자)
+     */
+    @PostMapping("/users/availability/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildAvailability(@LoginUser CustomUserDetails loginUser) {
+        if (!loginUser.isAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+
+        return ApiResponse.success("재구성 결과", userInfoAvailability.rebuild());
+    }
+
     /**
      * 비밀번호 변경
      */
     @PatchMapping("/users/password")
-    public ResponseEntity<ApiResponse<Boolean>> changePassword(@RequestBody UserPasswordRequest userPasswordRequest, HttpServletRequest request, HttpServletResponse response) {
-        boolean isChangePassword = userService.changePassword(request.getAttribute("userId").toString(), userPasswordRequest);
+    public ResponseEntity<ApiResponse<Boolean>> changePassword(@RequestBody UserPasswordRequest userPasswordRequest, @LoginUser CustomUserDetails loginUser,
+                                                               HttpServletRequest request, HttpServletResponse response) {
+        boolean isChangePassword = userService.changePassword(loginUser.getUserId().toString(), userPasswordRequest);
 
         authService.deleteAuth(request, response);
         return ApiResponse.success("비밀번호 수정 결과", isChangePassword);
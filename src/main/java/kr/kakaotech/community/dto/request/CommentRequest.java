@@ -1,8 +1,12 @@
 package kr.kakaotech.community.dto.request;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@AllArgsConstructor
+@NoArgsConstructor
 public class CommentRequest {
     private String content;
 }
@@ -5,36 +5,79 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 @AllArgsConstructor
 public class CommentResponse {
+    private static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+    private static final String WITHDRAWN_NICKNAME = "탈퇴한 회원이 작성한 댓글입니다";
+    private static final String WITHDRAWN_PREFIX = "탈퇴_";
+
     private int id;
     private String content;
     private String userId;
     private String nickname;
     private LocalDateTime createdAt;
+    private int likeCount;
+    private boolean liked;
+    private Integer parentId;
+    private Integer rootId;
+    private int depth;
+    private int replyCount;
+
+    /**
+     * JPQL 생성자 Projection 용
+     *
+     * 삭제된 댓글, 탈퇴 회원 마스킹을 여기서 처리합니다.
+     */
+    public CommentResponse(int id, String content, Boolean deleted, LocalDateTime createdAt, UUID userId, String nickname, int likeCount,
+                           Integer parentId, Integer rootId, int depth, int replyCount) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.likeCount = likeCount;
+        this.parentId = parentId;
+        this.rootId = rootId;
+        this.depth = depth;
+        this.replyCount = replyCount;
+        if (Boolean.TRUE.equals(deleted)) {
+            this.content = DELETED_CONTENT;
+            return;
+        }
+        this.content = content;
+        this.userId = userId.toString();
+        this.nickname = nickname.startsWith(WITHDRAWN_PREFIX) ? WITHDRAWN_NICKNAME : nickname;
+    }
 
     public static CommentResponse fromEntity(Comment comment) {
-        CommentResponse response;
+        return fromEntity(comment, comment.getUser().getId(), comment.getUser().getNickname());
+    }
+
+    /**
+     * 작성자 정보를 따로 받는 변환 - 방금 등록한 댓글처럼 작성자를 이미 알고 있을 때 users 조회를 피합니다.
+     */
+    public static CommentResponse fromEntity(Comment comment, UUID userId, String nickname) {
         if (comment.getDeleted()) {
-            response = new CommentResponse(
-                    comment.getId(),
-                    "삭제된 댓글입니다.",
-                    null,
-                    null,
-                    comment.getCreatedAt()
-            );
-        } else {
-            response = new CommentResponse(
-                    comment.getId(),
-                    comment.getContent(),
-                    comment.getUser().getId().toString(),
-                    comment.getUser().getNickname().startsWith("탈퇴_") ? "탈퇴한 회원이 작성한 댓글입니다" : comment.getUser().getNickname(),
-                    comment.getCreatedAt()
-            );
+            return new CommentResponse(comment.getId(), comment.getContent(), true, comment.getCreatedAt(), null, null, comment.getLikeCount(),
+                    comment.getParentId(), comment.getRootId(), comment.getDepth(), comment.getReplyCount());
         }
 
-        return response;
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContent(),
+                false,
+                comment.getCreatedAt(),
+                userId,
+                nickname,
+                comment.getLikeCount(),
+                comment.getParentId(),
+                comment.getRootId(),
+                comment.getDepth(),
+                comment.getReplyCount()
+        );
+    }
+
+    public void updateLiked(boolean liked) {
+        this.liked = liked;
     }
 }
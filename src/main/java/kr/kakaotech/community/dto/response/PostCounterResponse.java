@@ -0,0 +1,13 @@
+package kr.kakaotech.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostCounterResponse {
+    private int postId;
+    private int viewCount;
+    private int likeCount;
+    private int commentCount;
+}
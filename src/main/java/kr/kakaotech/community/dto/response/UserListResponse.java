@@ -0,0 +1,16 @@
+package kr.kakaotech.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UserListResponse {
+    private List<UserSummaryResponse> users;
+    private String nextCursor;
+    private boolean hasNext;
+    private long totalCount;
+    private boolean totalExact; // false 면 테이블 통계 기반 추정치
+}
@@ -0,0 +1,11 @@
+package kr.kakaotech.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserStatusResponse {
+    private int postCount;
+    private int receivedLikeCount;
+}
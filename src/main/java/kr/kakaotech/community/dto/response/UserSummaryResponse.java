@@ -0,0 +1,29 @@
+package kr.kakaotech.community.dto.response;
+
+import kr.kakaotech.community.entity.UserRole;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+public class UserSummaryResponse {
+    String id;
+    String email;
+    String nickname;
+    Boolean deleted;
+    String role;
+    String imageUrl;
+    LocalDateTime createdAt;
+
+    // JPQL projection 용
+    public UserSummaryResponse(UUID id, String email, String nickname, Boolean deleted, UserRole role, String imageUrl, LocalDateTime createdAt) {
+        this.id = id.toString();
+        this.email = email;
+        this.nickname = nickname;
+        this.deleted = deleted;
+        this.role = role.toString();
+        this.imageUrl = imageUrl;
+        this.createdAt = createdAt;
+    }
+}
@@ -12,9 +12,19 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @Entity(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_root_path", columnList = "root_id, path"),
+        @Index(name = "idx_comments_post_parent", columnList = "post_id, parent_id, id")
+})
 public class Comment {
+    // path 한 칸의 자리수, id를 0으로 채워서 문자열 정렬 = 숫자 정렬이 되도록 함
+    private static final String PATH_FORMAT = "%010d";
+    private static final String PATH_SEPARATOR = "/";
+    public static final int MAX_DEPTH = 10;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", allocationSize = 50)
     private int id;
 
     @Column(length = 200, nullable = false)
@@ -27,6 +37,38 @@ public class Comment {
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private int likeCount;
+
+    /**
+     * 답글 구조 (Materialized Path)
+     * 최상위 댓글은 parentId = null, rootId = 자기 자신
+     * path 는 루트부터 자기 자신까지의 id 를 이어붙인 값 ex) 0000000012/0000000034
+     */
+    @Column(name = "parent_id")
+    private Integer parentId;
+
+    @Column(name = "root_id")
+    private Integer rootId;
+
+    @Column(length = 255)
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth;
+
+    // 루트 댓글에만 의미 있음 - 스레드 전체 답글 수
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    // 스레드 안에서 몇 번째 답글인지 (루트는 0)
+    @ColumnDefault("0")
+    @Column(name = "reply_seq", nullable = false)
+    private int replySeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 작성자
@@ -44,6 +86,29 @@ public class Comment {
         this.post = post;
         this.createdAt = LocalDateTime.now();
         this.deleted = false;
+        this.likeCount = 0;
+    }
+
+    public static Comment reply(String content, User user, Comment parent, int replySeq) {
+        Comment reply = new Comment(content, user, parent.getPost());
+        reply.parentId = parent.getId();
+        reply.rootId = parent.getRootId();
+        reply.depth = parent.getDepth() + 1;
+        reply.replySeq = replySeq;
+        return reply;
+    }
+
+    /**
+     * id 가 발급된 이후에 path 를 채웁니다.
+     */
+    public void assignPath(String parentPath) {
+        String self = String.format(PATH_FORMAT, this.id);
+        if (parentPath == null) {
+            this.rootId = this.id;
+            this.path = self;
+            return;
+        }
+        this.path = parentPath + PATH_SEPARATOR + self;
     }
 
     public void update(String newContent) {
@@ -54,4 +119,3 @@ public class Comment {
         this.deleted = true;
     }
 }
-
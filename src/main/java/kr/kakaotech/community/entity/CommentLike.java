@@ -9,18 +9,26 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(name = "comment_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_like_user_comment", columnNames = {"user_id", "comment_id"}))
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "comment_id")
+    @JoinColumn(name = "comment_id", nullable = false)
     private Comment comment;
 
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    public CommentLike(User user, Comment comment) {
+        this.user = user;
+        this.comment = comment;
+        this.createdAt = LocalDateTime.now();
+    }
 }
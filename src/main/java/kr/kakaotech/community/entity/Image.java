@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class Image {
     @Id
 //    @Column(columnDefinition = "INT UNSIGNED")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "images_seq")
+    @SequenceGenerator(name = "images_seq", allocationSize = 50)
     Integer id;
     String url;
     LocalDateTime localDateTime;
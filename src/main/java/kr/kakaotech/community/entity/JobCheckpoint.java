@@ -0,0 +1,42 @@
+package kr.kakaotech.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치
+ *
+ * chunk 를 처리한 트랜잭션에서 같이 갱신하므로 중간에 멈춘 작업은 마지막으로 커밋된 위치 다음부터 이어갑니다.
+ * position 이 null 이면 처음부터 시작합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(length = 100)
+    private String position;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint(String name) {
+        this.name = name;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void moveTo(String position) {
+        this.position = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
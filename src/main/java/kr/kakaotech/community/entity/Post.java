@@ -12,9 +12,12 @@ import java.util.List;
 
 @Getter
 @Entity(name = "posts")
+@Table(indexes = @Index(name = "idx_posts_user_deleted_id", columnList = "user_id, deleted, id DESC"))
 public class Post {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 를 바로 실행해야 해서 batch 가 꺼집니다. pooled sequence 로 id 를 50개씩 미리 받습니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", allocationSize = 50)
 //    @Column(columnDefinition = "INT UNSIGNED")
     private Integer id;
     @Column(length = 40, nullable = false)
@@ -23,6 +26,8 @@ public class Post {
     private String content;
     @Column(length = 12, nullable = false)
     private String nickname;
+    // 작성자 프로필 이미지 - nickname 과 같이 작성자 변경 시 AuthorPropagationJob 이 갱신합니다.
+    private String authorImageUrl;
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     @Column(nullable = false)
@@ -52,15 +57,24 @@ public class Post {
     }
 
     public static Post toEntity(PostRegisterRequest request, User user) {
-        return new Post(
+        return toEntity(request, user, user.getNickname(), user.getImage() != null ? user.getImage().getUrl() : null);
+    }
+
+    /**
+     * 작성자 닉네임, 이미지를 따로 받는 생성 - user 가 프록시일 때 초기화하지 않도록 합니다.
+     */
+    public static Post toEntity(PostRegisterRequest request, User user, String nickname, String authorImageUrl) {
+        Post post = new Post(
                 request.getTitle(),
                 request.getContent(),
                 PostType.valueOf(request.getType().toUpperCase()),
-                user.getNickname(),
+                nickname,
                 LocalDateTime.now(),
                 false,
                 user
         );
+        post.authorImageUrl = authorImageUrl;
+        return post;
     }
 
     public void saveImage(List<PostImage> postImage) {
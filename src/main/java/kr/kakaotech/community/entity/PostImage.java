@@ -7,7 +7,8 @@ import lombok.Getter;
 @Entity(name = "post_image")
 public class PostImage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_image_seq")
+    @SequenceGenerator(name = "post_image_seq", allocationSize = 50)
     private int id;
 
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
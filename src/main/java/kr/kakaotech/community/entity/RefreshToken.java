@@ -8,7 +8,10 @@ import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "refresh_tokens", indexes = @Index(name = "idx_user_id", columnList = "userId"))
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_user_id", columnList = "userId"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt")
+})
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,12 +1,44 @@
 package kr.kakaotech.community.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
-    void deleteByUserId(UUID userId);
+    /**
+     * 파생 delete 는 SELECT 후 한 건씩 지우므로 벌크 delete 사용
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId IN :userIds")
+    int deleteAllByUserIds(@Param("userIds") Collection<UUID> userIds);
 
     Optional<RefreshToken> findByUserId(UUID userId);
+
+    /**
+     * 저장된 토큰이 expected 일 때만 교체 (compare-and-rotate)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.token = :next, r.expiresAt = :expiresAt " +
+            "WHERE r.userId = :userId AND r.token = :expected")
+    int rotate(@Param("userId") UUID userId,
+               @Param("expected") String expected,
+               @Param("next") String next,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 토큰 batchSize 개씩 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
@@ -0,0 +1,41 @@
+package kr.kakaotech.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * 사용자 단위 access 토큰 무효화 기록
+ *
+ * notBefore(epoch milli) 이전에 발급된 access 토큰은 모두 거절됩니다.
+ * access 토큰 TTL 이 지난 기록은 의미가 없으므로 주기적으로 지웁니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "token_revocations")
+public class TokenRevocation {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private long notBefore;
+
+    public TokenRevocation(UUID userId, long notBefore) {
+        this.userId = userId;
+        this.notBefore = notBefore;
+    }
+
+    public void updateNotBefore(long notBefore) {
+        this.notBefore = Math.max(this.notBefore, notBefore);
+    }
+}
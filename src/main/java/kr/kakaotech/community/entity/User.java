@@ -2,6 +2,7 @@ package kr.kakaotech.community.entity;
 
 import jakarta.persistence.*;
 import kr.kakaotech.community.dto.request.UserUpdateRequest;
+import kr.kakaotech.community.global.id.UuidV7;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,11 +16,12 @@ import java.util.UUID;
 @Getter
 @AllArgsConstructor
 @Entity(name = "users")
+@Table(indexes = @Index(name = "idx_users_created_at_id", columnList = "createdAt, id"))
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @JdbcTypeCode(SqlTypes.BINARY)
-    private UUID id; // binary(16) 사용
+    private UUID id; // binary(16) 사용, 시간순 UUIDv7
     @Column(length = 50, unique = true)
     private String email;
     @Column(nullable = false)
@@ -62,7 +64,8 @@ public class User {
     }
 
     public void deleteUser() {
-        this.nickname = "탈퇴_" + this.id.toString().substring(0, 6);
+        // v7 id 의 앞부분은 시각이라 겹치므로 랜덤인 끝부분을 사용합니다.
+        this.nickname = "탈퇴_" + this.id.toString().substring(27);
         this.password = "null";
         this.deleted = true;
         this.deletedAt = LocalDateTime.now();
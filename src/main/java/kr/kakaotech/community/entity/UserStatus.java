@@ -0,0 +1,40 @@
+package kr.kakaotech.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * 작성자별 통계 - 프로필 헤더에서 집계 쿼리 없이 읽도록 게시글 등록/삭제, 좋아요 시 갱신합니다.
+ *
+ * 삭제된 게시글과 그 게시글이 받은 좋아요는 포함하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "user_statuses")
+public class UserStatus {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    private UUID userId;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int postCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int receivedLikeCount;
+
+    public UserStatus(UUID userId) {
+        this.userId = userId;
+        this.postCount = 0;
+        this.receivedLikeCount = 0;
+    }
+}
@@ -27,6 +27,7 @@ public enum ErrorCode {
      */
     NOT_FOUND_COMMENT("존재하지 않는 댓글입니다.", HttpStatus.NOT_FOUND),
     BAD_REQUEST_COMMENT("이미 삭제된 댓글입니다.", HttpStatus.BAD_REQUEST),
+    REPLY_DEPTH_EXCEEDED("더 이상 답글을 달 수 없습니다.", HttpStatus.BAD_REQUEST),
 
     /**
      * Auth 에러
@@ -63,6 +64,11 @@ public enum ErrorCode {
     UNAUTHORIZED("접근할 수 없습니다.", HttpStatus.UNAUTHORIZED),
     BAD_REQUEST("잘못된 요청입니다.", HttpStatus.BAD_REQUEST),
 
+    /**
+     * 과부하
+     */
+    TOO_MANY_REQUESTS("요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
     /**
      * ERROR
      */
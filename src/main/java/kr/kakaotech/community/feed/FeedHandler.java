@@ -0,0 +1,221 @@
+package kr.kakaotech.community.feed;
+
+import kr.kakaotech.community.dto.ApiResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 피드 프로필의 핸들러
+ *
+ * PostController, CommentController 의 공개 조회 API 와 같은 경로, 파라미터, 응답 형태를 유지합니다.
+ * 인증 필터가 없는 프로필이라 비로그인 조회로 처리하고, 조회수 증가 같은 쓰기는 하지 않습니다.
+ * 예외는 종류와 상관없이 handleError 에서 GlobalExceptionHandler 와 같은 형태로 바꿉니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class FeedHandler {
+
+    static final int MAX_PAGE_SIZE = 2000;
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 100;
+
+    private final FeedReader feedReader;
+
+    /**
+     * 게시글 목록 불러오기
+     */
+    public Mono<ServerResponse> getPostList(ServerRequest request) {
+        return Mono.defer(() -> {
+            Integer cursor = optionalInt(request, "cursor");
+            String nickname = request.queryParam("nickname").orElse(null);
+            String period = request.queryParam("period").orElse(null);
+            int size = intParam(request, "size", 5);
+
+            if (nickname != null) {
+                return ok("nickname - 게시글 목록 조회 성공", () -> feedReader.getNicknamePostList(cursor, nickname, size));
+            }
+            if (period != null) {
+                return ok("Like - 게시글 목록 조회 성공", () -> feedReader.getLikePostList(cursor, period, size));
+            }
+            return ok("게시글 목록 조회 성공", () -> feedReader.getPostList(cursor, size));
+        });
+    }
+
+    public Mono<ServerResponse> getPostTop10List(ServerRequest request) {
+        return ok("게시글 목록 조회 성공", feedReader::getPostTop10List);
+    }
+
+    /**
+     * Index 게시글 목록 불러오기
+     */
+    public Mono<ServerResponse> getIndexPostList(ServerRequest request) {
+        return ok("인덱스 게시글 목록 조회 성공", () -> feedReader.getIndexPostList(3));
+    }
+
+    /**
+     * 작성자 피드 불러오기
+     */
+    public Mono<ServerResponse> getAuthorPostList(ServerRequest request) {
+        return ok("작성자 게시글 목록 조회 성공", () -> feedReader.getAuthorPostList(
+                pathUuid(request, "userId"),
+                optionalInt(request, "cursor"),
+                intParam(request, "size", 5)
+        ));
+    }
+
+    /**
+     * 게시글 상세 조회
+     */
+    public Mono<ServerResponse> getPost(ServerRequest request) {
+        return ok("게시글 상세 내용입니다.", () -> feedReader.getPostDetails(pathInt(request, "postId")));
+    }
+
+    /**
+     * 게시글별 댓글 목록 조회 (페이징)
+     */
+    public Mono<ServerResponse> getCommentList(ServerRequest request) {
+        return ok("댓글 목록 조회 성공", () -> feedReader.getCommentList(
+                pathInt(request, "postId"),
+                null,
+                commentPageable(request)
+        ));
+    }
+
+    /**
+     * 게시글별 스레드 목록 조회
+     */
+    public Mono<ServerResponse> getThreadList(ServerRequest request) {
+        return ok("스레드 목록 조회 성공", () -> feedReader.getThreadList(
+                pathInt(request, "postId"),
+                null,
+                intParam(request, "page", 0),
+                intParam(request, "size", 20),
+                intParam(request, "replies", 3)
+        ));
+    }
+
+    /**
+     * 스레드 전체 조회
+     */
+    public Mono<ServerResponse> getThread(ServerRequest request) {
+        return ok("스레드 조회 성공", () -> feedReader.getThread(pathInt(request, "commentId"), null));
+    }
+
+    /**
+     * GlobalExceptionHandler 와 같은 형태로 응답합니다.
+     * 잘못된 정렬 조건처럼 조회 중에 난 인자 오류는 BAD_REQUEST, 그 밖의 예외는 SERVER_ERROR 로 내려갑니다.
+     */
+    public Mono<ServerResponse> handleError(Throwable e, ServerRequest request) {
+        ErrorCode errorCode;
+        if (e instanceof CustomException customException) {
+            errorCode = customException.getErrorCode();
+        } else if (e instanceof IllegalArgumentException
+                || e instanceof PropertyReferenceException
+                || e instanceof InvalidDataAccessApiUsageException) {
+            errorCode = ErrorCode.BAD_REQUEST;
+        } else {
+            log.error("[FeedHandler] {} {} 처리 실패", request.method(), request.path(), e);
+            errorCode = ErrorCode.SERVER_ERROR;
+        }
+
+        return ServerResponse.status(errorCode.getStatus()).bodyValue(errorCode.getMessage());
+    }
+
+    /**
+     * CommentController 의 @PageableDefault(size = 100, sort = "createdAt") 와 같은 규칙으로 만듭니다.
+     * servlet 의 Pageable 리졸버처럼 음수 page 는 0, 1 미만 size 는 기본값, MAX_PAGE_SIZE 초과는 최대값으로 맞추고
+     * 숫자가 아니면 기본값을 씁니다.
+     */
+    private Pageable commentPageable(ServerRequest request) {
+        int page = Math.max(lenientInt(request, "page", 0), 0);
+        int size = lenientInt(request, "size", DEFAULT_COMMENT_PAGE_SIZE);
+        size = size < 1 ? DEFAULT_COMMENT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Sort sort = sortParam(request);
+
+        return PageRequest.of(page, size, sort.isSorted() ? sort : Sort.by("createdAt"));
+    }
+
+    /**
+     * sort=property(,property)(,ASC|DESC) 형식, 여러 번 올 수 있습니다.
+     */
+    private Sort sortParam(ServerRequest request) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String value : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = value.split(",");
+            int last = parts.length - 1;
+            Optional<Sort.Direction> direction = last > 0 ? Sort.Direction.fromOptionalString(parts[last].trim()) : Optional.empty();
+            int end = direction.isPresent() ? last : parts.length;
+            for (int i = 0; i < end; i++) {
+                String property = parts[i].trim();
+                if (!property.isEmpty()) {
+                    orders.add(new Sort.Order(direction.orElse(Sort.DEFAULT_DIRECTION), property));
+                }
+            }
+        }
+
+        return Sort.by(orders);
+    }
+
+    /**
+     * 파라미터 변환 실패도 onError 로 넘어가도록 조회를 defer 로 감쌉니다.
+     */
+    private <T> Mono<ServerResponse> ok(String message, Supplier<Mono<T>> data) {
+        return Mono.defer(data).flatMap(value -> ServerResponse.ok().bodyValue(new ApiResponse<>(message, value)));
+    }
+
+    private int pathInt(ServerRequest request, String name) {
+        return parse(request.pathVariable(name));
+    }
+
+    private UUID pathUuid(ServerRequest request, String name) {
+        try {
+            return UUID.fromString(request.pathVariable(name));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+    }
+
+    private int intParam(ServerRequest request, String name, int defaultValue) {
+        Integer value = optionalInt(request, name);
+        return value == null ? defaultValue : value;
+    }
+
+    private int lenientInt(ServerRequest request, String name, int defaultValue) {
+        try {
+            return intParam(request, name, defaultValue);
+        } catch (CustomException e) {
+            return defaultValue;
+        }
+    }
+
+    private Integer optionalInt(ServerRequest request, String name) {
+        return request.queryParam(name).map(this::parse).orElse(null);
+    }
+
+    private int parse(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.kakaotech.community.feed;
+
+import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.dto.response.PostDetailResponse;
+import kr.kakaotech.community.dto.response.PostListResponse;
+import kr.kakaotech.community.dto.response.PostSummaryWithImageResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.service.CommentService;
+import kr.kakaotech.community.service.PostService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 피드 조회용 reactive 저장소 계층
+ *
+ * 기존 readOnly 서비스(JDBC)를 그대로 쓰고 feed-jdbc 스케줄러에서만 실행합니다.
+ * 스케줄러 스레드 수를 커넥션 풀 크기에 맞춰 두어서 이벤트 루프는 block 되지 않고,
+ * 대기열까지 가득 차면 429 로 바로 돌려보냅니다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class FeedReader {
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final Scheduler jdbcScheduler;
+
+    public FeedReader(PostService postService,
+                      CommentService commentService,
+                      @Qualifier("feedJdbcScheduler") Scheduler jdbcScheduler) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    public Mono<PostListResponse> getPostList(Integer cursor, int size) {
+        return read(() -> postService.getPostList(cursor, size));
+    }
+
+    public Mono<PostListResponse> getLikePostList(Integer cursor, String period, int size) {
+        return read(() -> postService.getLikePostList(cursor, period, size));
+    }
+
+    public Mono<PostListResponse> getNicknamePostList(Integer cursor, String nickname, int size) {
+        return read(() -> postService.getNicknamePostList(cursor, nickname, size));
+    }
+
+    public Mono<PostListResponse> getAuthorPostList(UUID userId, Integer cursor, int size) {
+        return read(() -> postService.getAuthorPostList(userId, cursor, size));
+    }
+
+    public Mono<PostListResponse> getPostTop10List() {
+        return read(postService::getPostTop10List);
+    }
+
+    public Mono<List<PostSummaryWithImageResponse>> getIndexPostList(int size) {
+        return read(() -> postService.getPostListWithImage(size));
+    }
+
+    public Mono<PostDetailResponse> getPostDetails(int postId) {
+        return read(() -> postService.getPostDetails(postId));
+    }
+
+    public Mono<Page<CommentResponse>> getCommentList(int postId, UUID userId, Pageable pageable) {
+        return read(() -> commentService.getCommentList(postId, userId, pageable));
+    }
+
+    public Mono<List<CommentResponse>> getThreadList(int postId, UUID userId, int page, int size, int replies) {
+        return read(() -> commentService.getThreadList(postId, userId, page, size, replies));
+    }
+
+    public Mono<List<CommentResponse>> getThread(int commentId, UUID userId) {
+        return read(() -> commentService.getThread(commentId, userId));
+    }
+
+    private <T> Mono<T> read(Callable<T> query) {
+        return Mono.fromCallable(query)
+                .subscribeOn(jdbcScheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new CustomException(ErrorCode.TOO_MANY_REQUESTS));
+    }
+}
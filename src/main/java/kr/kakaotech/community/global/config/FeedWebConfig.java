@@ -0,0 +1,75 @@
+package kr.kakaotech.community.global.config;
+
+import kr.kakaotech.community.feed.FeedHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxRegistrations;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * 읽기 전용 피드 프로필 (spring.profiles.active=feed)
+ *
+ * - servlet 쓰기 API 와 따로 배포하는 WebFlux + Netty 서버로, 이벤트 루프 스레드 몇 개로 피드 조회만 받습니다.
+ * - @RestController 는 servlet 필터(인증, rate limit)를 전제로 하므로 이 프로필에서는 노출하지 않고
+ *   공개 조회 경로만 RouterFunction 으로 다시 엽니다.
+ * - JDBC 조회는 커넥션 풀 크기만큼의 feed-jdbc 스레드에서만 실행됩니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class FeedWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory feedServerFactory(@Value("${feed.event-loop-threads:4}") int eventLoopThreads) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(LoopResources.create("feed-loop", eventLoopThreads, true)));
+        return factory;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler feedJdbcScheduler(@Value("${feed.jdbc.threads:20}") int threads,
+                                       @Value("${feed.jdbc.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "feed-jdbc");
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> feedRoutes(FeedHandler feedHandler) {
+        return RouterFunctions.route()
+                .GET("/posts", feedHandler::getPostList)
+                .GET("/posts/top10", feedHandler::getPostTop10List)
+                .GET("/posts/index", feedHandler::getIndexPostList)
+                .GET("/posts/{postId}", feedHandler::getPost)
+                .GET("/posts/{postId}/comments", feedHandler::getCommentList)
+                .GET("/posts/{postId}/comments/threads", feedHandler::getThreadList)
+                .GET("/comments/{commentId}/thread", feedHandler::getThread)
+                .GET("/users/{userId}/posts", feedHandler::getAuthorPostList)
+                .onError(Exception.class, feedHandler::handleError)
+                .build();
+    }
+
+    /**
+     * 어노테이션 컨트롤러를 WebFlux 에 등록하지 않습니다.
+     */
+    @Bean
+    public WebFluxRegistrations feedOnlyRegistrations() {
+        return new WebFluxRegistrations() {
+            @Override
+            public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+                return new RequestMappingHandlerMapping() {
+                    @Override
+                    protected boolean isHandler(Class<?> beanType) {
+                        return false;
+                    }
+                };
+            }
+        };
+    }
+}
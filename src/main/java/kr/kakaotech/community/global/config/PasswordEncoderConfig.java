@@ -1,14 +1,57 @@
 package kr.kakaotech.community.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
+
+    @Value("${password.hash.calibrate:true}")
+    private boolean calibrate;
+    @Value("${password.hash.target-ms:250}")
+    private long targetMs;
+    @Value("${password.hash.min-cost:10}")
+    private int minCost;
+    @Value("${password.hash.max-cost:14}")
+    private int maxCost;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int cost = calibrate ? calibrateCost() : minCost;
+        log.info("[PasswordEncoderConfig] BCrypt cost = {}", cost);
+
+        return new BCryptPasswordEncoder(cost);
+    }
+
+    /**
+     * 시작할 때 target-ms 에 맞는 BCrypt cost 계산
+     *
+     * cost 가 1 오를 때마다 해시 시간이 두 배가 되므로 min-cost 로 몇 번 재고
+     * target-ms 를 넘지 않는 가장 큰 cost 를 고릅니다.
+     */
+    private int calibrateCost() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        encoder.encode("calibration-warmup");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        double baseMs = Math.max(best / 1_000_000.0, 1.0);
+        int cost = minCost;
+        while (cost < maxCost && baseMs * (1L << (cost + 1 - minCost)) <= targetMs) {
+            cost++;
+        }
+
+        log.info("[PasswordEncoderConfig] cost {} 기준 {}ms, target {}ms", minCost, String.format("%.1f", baseMs), targetMs);
+        return cost;
     }
 }
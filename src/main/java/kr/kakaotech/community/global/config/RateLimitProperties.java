@@ -0,0 +1,67 @@
+package kr.kakaotech.community.global.config;
+
+import kr.kakaotech.community.global.ratelimit.RateLimitRoute;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 바인딩할 때 validate 로 값을 확인해서 잘못된 설정이면 기동에 실패합니다.
+ * (Bean Validation 구현체가 없어 Boot 의 self-validating 방식을 씁니다.)
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties implements Validator {
+    private boolean enabled = true;
+    // local : 노드별 메모리, redis : 클러스터 전체
+    private String backend = "local";
+    // local 버킷 최대 개수
+    private int maxKeys = 100_000;
+    private Map<RateLimitRoute, Limit> routes = new EnumMap<>(RateLimitRoute.class);
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return RateLimitProperties.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        RateLimitProperties properties = (RateLimitProperties) target;
+        if (properties.getMaxKeys() <= 0) {
+            errors.rejectValue("maxKeys", "positive", "rate-limit.max-keys 는 0 보다 커야 합니다.");
+        }
+        properties.getRoutes().forEach((route, limit) -> {
+            String name = "rate-limit.routes." + route.name().toLowerCase();
+            if (limit.getCapacity() <= 0) {
+                errors.reject("positive", name + ".capacity 는 0 보다 커야 합니다.");
+            }
+            // intervalNanos 의 분모
+            if (!(limit.getRefillPerSecond() > 0)) {
+                errors.reject("positive", name + ".refill-per-second 는 0 보다 커야 합니다.");
+            }
+        });
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 한 번에 허용하는 최대 요청 수
+        private int capacity;
+        // 초당 채워지는 요청 수
+        private double refillPerSecond;
+
+        public long intervalNanos() {
+            return (long) (1_000_000_000L / refillPerSecond);
+        }
+    }
+}
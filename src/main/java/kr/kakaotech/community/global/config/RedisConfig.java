@@ -3,10 +3,14 @@ package kr.kakaotech.community.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.kakaotech.community.auth.session.SessionDao;
+import kr.kakaotech.community.auth.session.SessionDaoRedisSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -41,4 +45,67 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * 세션 전용 - 고정 길이 바이너리로 저장
+     */
+    @Bean
+    public RedisTemplate<String, SessionDao> sessionRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, SessionDao> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new SessionDaoRedisSerializer());
+        template.afterPropertiesSet();
+
+        return template;
+    }
+
+    /**
+     * SSE 이벤트 노드 간 전달용 pub/sub 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "sse.relay", havingValue = "redis")
+    public RedisMessageListenerContainer postEventListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+
+    /**
+     * 세션 near-cache 무효화 메시지용 pub/sub 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.type", havingValue = "session")
+    public RedisMessageListenerContainer sessionListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+
+    /**
+     * 토큰 무효화 전달용 pub/sub 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jwt.revocation.relay", havingValue = "redis")
+    public RedisMessageListenerContainer revocationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+
+    /**
+     * 이메일, 닉네임 사용 전달용 pub/sub 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "user-info.relay", havingValue = "redis")
+    public RedisMessageListenerContainer userInfoListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
 }
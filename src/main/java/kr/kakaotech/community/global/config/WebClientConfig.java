@@ -1,25 +1,46 @@
 package kr.kakaotech.community.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
+    public WebClient webClient(WebClient.Builder builder,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return configure(builder, virtualThreads).build();
+    }
+
+    /**
+     * virtual thread 모드에서는 Reactor Netty 이벤트 루프 대신 JDK HttpClient 를 virtual thread 로 실행합니다.
+     * 요청 스레드가 block() 으로 기다려도 carrier 를 잡지 않고, 응답 처리도 별도 이벤트 루프 없이 끝납니다.
+     */
+    public static WebClient.Builder configure(WebClient.Builder builder, boolean virtualThreads) {
         // 이미지 업로드를 위해 메모리 버퍼 크기를 16MB로 설정
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
                 .codecs(configurer -> configurer.defaultCodecs()
                         .maxInMemorySize(16 * 1024 * 1024)) // 16MB
                 .build();
 
-        return builder
-                .exchangeStrategies(exchangeStrategies)
-                .build();
+        builder.exchangeStrategies(exchangeStrategies);
+        if (virtualThreads) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            builder.clientConnector(new JdkClientHttpConnector(httpClient));
+        }
+        return builder;
     }
 }
-
@@ -3,6 +3,7 @@ package kr.kakaotech.community.global.config;
 import jakarta.servlet.Filter;
 import kr.kakaotech.community.auth.AuthFilter;
 import kr.kakaotech.community.global.filter.CorsFilter;
+import kr.kakaotech.community.global.ratelimit.RateLimitFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,10 +13,12 @@ public class WebFilterConfig {
 
     private final AuthFilter authFilter;
     private final CorsFilter corsFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public WebFilterConfig(AuthFilter authFilter, CorsFilter corsFilter) {
+    public WebFilterConfig(AuthFilter authFilter, CorsFilter corsFilter, RateLimitFilter rateLimitFilter) {
         this.authFilter = authFilter;
         this.corsFilter = corsFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -37,4 +40,14 @@ public class WebFilterConfig {
 
         return filterRegistrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<Filter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<Filter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(rateLimitFilter);
+        filterRegistrationBean.addUrlPatterns("/*");
+        filterRegistrationBean.setOrder(2);  // AuthFilter 다음에 실행 (userId 기준으로 제한)
+
+        return filterRegistrationBean;
+    }
 }
@@ -0,0 +1,6 @@
+package kr.kakaotech.community.global.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
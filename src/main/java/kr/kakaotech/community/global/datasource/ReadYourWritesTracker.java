@@ -0,0 +1,45 @@
+package kr.kakaotech.community.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각 - window-ms 동안은 그 사용자의 읽기도 primary 로 보냅니다.
+ *
+ * 자기가 방금 쓴 글이 replica 에 아직 없어서 안 보이는 일을 막습니다.
+ * 노드 로컬 기록이라 다른 노드로 간 요청에는 적용되지 않습니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<UUID, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final long windowMs;
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void markWrite(UUID userId) {
+        primaryUntil.put(userId, System.currentTimeMillis() + windowMs);
+    }
+
+    public boolean recentlyWrote(UUID userId) {
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            primaryUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.read-your-writes-ms:3000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        primaryUntil.values().removeIf(until -> until < now);
+    }
+}
@@ -0,0 +1,73 @@
+package kr.kakaotech.community.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * heartbeat 기반 replica 지연 측정
+ *
+ * primary 의 replica_heartbeat 에 현재 시각을 쓰고 replica 에서 같은 row 를 읽어 차이를 지연으로 봅니다.
+ * (pt-heartbeat 방식 - SHOW REPLICA STATUS 권한 없이도 동작하고 DB 종류에 묶이지 않습니다.)
+ * 지연이 max-lag-ms 를 넘거나 측정에 실패하면 다음 측정까지 읽기도 primary 로 보냅니다.
+ * 첫 측정 전에도 primary 를 사용합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+
+    private volatile long lagMs = -1;
+    private volatile boolean heartbeatTableReady;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMs, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMs = maxLagMs;
+
+        Gauge.builder("datasource.replica.lag_ms", this, ReplicaLagMonitor::getLagMs).register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        long lag = lagMs;
+        return lag >= 0 && lag <= maxLagMs;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:500}")
+    public void check() {
+        try {
+            beat();
+            List<Long> beats = replica.queryForList(
+                    "SELECT beat_millis FROM replica_heartbeat WHERE id = ?", Long.class, HEARTBEAT_ID);
+            lagMs = beats.isEmpty() ? -1 : Math.max(0, System.currentTimeMillis() - beats.get(0));
+        } catch (Exception e) {
+            log.warn("[ReplicaLagMonitor] 지연 측정 실패, primary 로 읽습니다 : {}", e.getMessage());
+            lagMs = -1;
+        }
+    }
+
+    private void beat() {
+        if (!heartbeatTableReady) {
+            primary.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+            heartbeatTableReady = true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (primary.update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = ?", now, HEARTBEAT_ID) == 0) {
+            primary.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (?, ?)", HEARTBEAT_ID, now);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.kakaotech.community.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ *
+ * - 트랜잭션의 readOnly 여부는 커넥션을 실제로 받을 때 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * - replica 지연이 크거나 측정이 안 되면 primary 로 읽습니다.
+ * - 로그인 사용자가 쓰기 트랜잭션을 커밋하면 read-your-writes-ms 동안 그 사용자의 읽기도 primary 로 읽습니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter lagFallbackCounter;
+    private final Counter readYourWritesFallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.primaryCounter = Counter.builder("datasource.route").tag("target", "primary").register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.route").tag("target", "replica").register(meterRegistry);
+        this.lagFallbackCounter = Counter.builder("datasource.replica.fallback").tag("reason", "lag").register(meterRegistry);
+        this.readYourWritesFallbackCounter = Counter.builder("datasource.replica.fallback").tag("reason", "read_your_writes").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        UUID userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteAfterCommit(userId);
+            primaryCounter.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (userId != null && readYourWritesTracker.recentlyWrote(userId)) {
+            readYourWritesFallbackCounter.increment();
+            primaryCounter.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbackCounter.increment();
+            primaryCounter.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+
+        replicaCounter.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    private void markWriteAfterCommit(UUID userId) {
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+        });
+    }
+
+    private UUID currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object loginUser = attributes.getAttribute(CustomUserDetails.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return loginUser instanceof CustomUserDetails details ? details.getUserId() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import kr.kakaotech.community.global.config.RateLimitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 노드용 메모리 토큰 버킷
+ *
+ * 버킷 상태를 "버킷이 다시 가득 차는 시각" long 하나로 표현하고 CAS 로만 갱신합니다. (락, 할당 없음)
+ * - 요청 하나는 이 시각을 interval 만큼 뒤로 미룹니다.
+ * - 미룬 시각이 지금보다 capacity * interval 넘게 앞서면 토큰이 없는 상태입니다.
+ * 가득 찬 버킷은 없는 버킷과 같으므로 주기적으로 지워 키 개수를 제한합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalTokenBucketRateLimiter implements RateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public LocalTokenBucketRateLimiter(RateLimitProperties properties) {
+        this.maxKeys = properties.getMaxKeys();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        long interval = limit.intervalNanos();
+        long window = interval * limit.getCapacity();
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evictFull(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + interval;
+            long allowAt = next - window;
+            if (allowAt > now) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(allowAt - now));
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-ms:60000}")
+    public void cleanup() {
+        evictFull(System.nanoTime());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void evictFull(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 경로 묶음별 요청 제한
+ *
+ * AuthFilter 다음에 실행되므로 로그인 사용자는 userId 기준, 그 외(로그인 요청 등)는 클라이언트 IP 기준으로 셉니다.
+ * 클라이언트 IP 는 server.forward-headers-strategy=native 로 신뢰하는 프록시의 X-Forwarded-For 에서 복원된 값입니다.
+ * 제한을 넘으면 429 와 Retry-After(초)를 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<RateLimitRoute, Counter> rejectedCounters = new EnumMap<>(RateLimitRoute.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            rejectedCounters.put(route, Counter.builder("rate_limit.rejected")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRoute route = RateLimitRoute.classify(request.getMethod(), request.getRequestURI());
+        RateLimitProperties.Limit limit = route == null ? null : properties.getRoutes().get(route);
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = rateLimiter.tryAcquire(route.name() + ":" + clientKey(request), limit);
+        if (retryAfterMillis > 0) {
+            rejectedCounters.get(route).increment();
+            log.info("[RateLimitFilter] 요청 제한 route={}, uri={}", route, request.getRequestURI());
+            reject(response, retryAfterMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Object userId = request.getAttribute("userId");
+        if (userId != null) {
+            return userId.toString();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader("Retry-After", String.valueOf((retryAfterMillis + 999) / 1000));
+        response.setContentType("application/json;charset=UTF-8");
+
+        response.getWriter().write(objectMapper.writeValueAsString(new CustomException(ErrorCode.TOO_MANY_REQUESTS)));
+    }
+}
@@ -0,0 +1,47 @@
+package kr.kakaotech.community.global.ratelimit;
+
+/**
+ * 요청 제한을 적용하는 경로 묶음
+ *
+ * 비용이 큰 쓰기 요청만 대상입니다. 나머지 요청은 classify 에서 null 을 돌려줍니다.
+ */
+public enum RateLimitRoute {
+    // POST /api/auth - BCrypt 검증
+    LOGIN,
+    // POST /api/posts
+    POST,
+    // POST /api/posts/{id}/comments, POST /api/comments/{id}/replies
+    COMMENT,
+    // POST /api/posts/{id}/likes, POST /api/comments/{id}/likes
+    LIKE;
+
+    private static final String POSTS = "/api/posts";
+    private static final String POSTS_PREFIX = "/api/posts/";
+    private static final String COMMENTS_PREFIX = "/api/comments/";
+
+    public static RateLimitRoute classify(String method, String uri) {
+        if (!"POST".equals(method) || uri == null) {
+            return null;
+        }
+
+        if ("/api/auth".equals(uri)) {
+            return LOGIN;
+        }
+        if (POSTS.equals(uri)) {
+            return POST;
+        }
+
+        boolean postChild = uri.startsWith(POSTS_PREFIX);
+        boolean commentChild = uri.startsWith(COMMENTS_PREFIX);
+        if (!postChild && !commentChild) {
+            return null;
+        }
+        if (uri.endsWith("/likes")) {
+            return LIKE;
+        }
+        if ((postChild && uri.endsWith("/comments")) || (commentChild && uri.endsWith("/replies"))) {
+            return COMMENT;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import kr.kakaotech.community.global.config.RateLimitProperties;
+
+public interface RateLimiter {
+    /**
+     * 요청 하나를 소비합니다.
+     *
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    long tryAcquire(String key, RateLimitProperties.Limit limit);
+}
@@ -0,0 +1,62 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import kr.kakaotech.community.global.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 전체 요청 제한 - Redis GCRA
+ *
+ * 키 하나에 TAT(theoretical arrival time, us) 만 저장하고 Lua 스크립트 한 번으로 판단과 갱신을 같이 합니다.
+ * 시각은 Redis TIME 을 쓰므로 노드 간 시계 차이의 영향을 받지 않습니다.
+ * Redis 장애 시에는 요청을 막지 않습니다. (fail-open)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "redis")
+public class RedisGcraRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:";
+
+    private static final DefaultRedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+            "local interval = tonumber(ARGV[1]) " +
+            "local window = interval * tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+            "local tat = tonumber(redis.call('GET', KEYS[1])) or now " +
+            "if tat < now then tat = now end " +
+            "local newTat = tat + interval " +
+            "local allowAt = newTat - window " +
+            "if allowAt > now then return allowAt - now end " +
+            "redis.call('SET', KEYS[1], newTat, 'PX', math.ceil((newTat - now) / 1000)) " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisGcraRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        try {
+            Long waitMicros = stringRedisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(limit.intervalNanos())),
+                    String.valueOf(limit.getCapacity()));
+            if (waitMicros == null || waitMicros <= 0) {
+                return 0;
+            }
+            return Math.max(1, TimeUnit.MICROSECONDS.toMillis(waitMicros));
+        } catch (Exception e) {
+            log.warn("[RedisGcraRateLimiter] Redis 요청 제한 실패, 요청 허용 : {}", e.getMessage());
+            return 0;
+        }
+    }
+}
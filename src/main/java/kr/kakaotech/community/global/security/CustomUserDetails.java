@@ -2,29 +2,56 @@ package kr.kakaotech.community.global.security;
 
 import kr.kakaotech.community.entity.User;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 인증된 사용자 (불변)
+ *
+ * AuthFilter 에서 토큰/세션을 검증한 뒤 한 번만 만들어 request 에 담고,
+ * 컨트롤러에서는 @LoginUser 로 주입받습니다.
+ */
+public final class CustomUserDetails {
+
+    public static final String ATTRIBUTE = CustomUserDetails.class.getName();
+
+    private final UUID userId;
+    private final String role;
+    private final UserProfile profile;
+
+    public CustomUserDetails(UUID userId, String role, UserProfile profile) {
+        this.userId = userId;
+        this.role = role;
+        this.profile = profile == null ? UserProfile.EMPTY : profile;
+    }
 
-public class CustomUserDetails {
+    public CustomUserDetails(User user) {
+        this(user.getId(),
+                user.getRole().name(),
+                new UserProfile(user.getNickname(), user.getImage() != null ? user.getImage().getUrl() : null,
+                        Boolean.TRUE.equals(user.getDeleted())));
+    }
 
-    private final User user;
+    public UUID getUserId() {
+        return userId;
+    }
 
-    public CustomUserDetails(User user) {
-        this.user = user;
+    public String getRole() {
+        return role;
     }
 
-    public String getUserId() {
-        return user.getId().toString();
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
     }
+
     public String getNickname() {
-        return user.getNickname();
+        return profile.nickname();
     }
 
-    public String getPassword() {
-        return user.getPassword();
+    public String getImageUrl() {
+        return profile.imageUrl();
     }
 
-    public String getUsername() {
-        return user.getEmail();
+    public boolean isDeleted() {
+        return profile.deleted();
     }
 }
@@ -0,0 +1,17 @@
+package kr.kakaotech.community.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 인증 사용자(CustomUserDetails) 주입
+ *
+ * required = false 면 비로그인 요청에서 null 이 들어옵니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+    boolean required() default true;
+}
@@ -0,0 +1,33 @@
+package kr.kakaotech.community.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && CustomUserDetails.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        Object principal = request == null ? null : request.getAttribute(CustomUserDetails.ATTRIBUTE);
+
+        if (principal == null && parameter.getParameterAnnotation(LoginUser.class).required()) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return principal;
+    }
+}
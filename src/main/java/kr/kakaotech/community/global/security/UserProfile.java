@@ -0,0 +1,9 @@
+package kr.kakaotech.community.global.security;
+
+/**
+ * 인증 사용자의 표시용 정보 (닉네임, 프로필 이미지, 탈퇴 여부)
+ * row 가 없는 사용자는 EMPTY 로, 탈퇴한 사용자와 같이 취급합니다.
+ */
+public record UserProfile(String nickname, String imageUrl, boolean deleted) {
+    public static final UserProfile EMPTY = new UserProfile(null, null, true);
+}
@@ -0,0 +1,63 @@
+package kr.kakaotech.community.global.security;
+
+import kr.kakaotech.community.job.AuthorChangedEvent;
+import kr.kakaotech.community.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 사용자 닉네임, 프로필 이미지 캐시
+ *
+ * 노드 메모리에 ttl-ms 동안 보관합니다. 이 노드에서 바뀐 정보는 커밋 후 AuthorChangedEvent 로 지우고,
+ * 다른 노드에서 바뀐 정보는 ttl-ms 안에 반영됩니다.
+ * 커밋 전에 지우면 그 사이 다른 요청이 이전 row 를 다시 담을 수 있어서 커밋 이후에만 지웁니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${user-profile.cache.ttl-ms:60000}")
+    private long ttlMs;
+    @Value("${user-profile.cache.max-size:10000}")
+    private int maxSize;
+
+    public UserProfileCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public UserProfile get(UUID userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAtMillis() > now) {
+            return entry.profile();
+        }
+
+        UserProfile profile = userRepository.findProfileById(userId).orElse(UserProfile.EMPTY);
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(e -> e.expiresAtMillis() <= now);
+        }
+        if (entries.size() < maxSize) {
+            entries.put(userId, new Entry(profile, now + ttlMs));
+        }
+        return profile;
+    }
+
+    public void evict(UUID userId) {
+        entries.remove(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private record Entry(UserProfile profile, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,9 @@
+package kr.kakaotech.community.job;
+
+import java.util.UUID;
+
+/**
+ * 작성자 닉네임, 프로필 이미지 변경 - 커밋 후 게시글에 복사된 작성자 정보를 갱신할 때 사용
+ */
+public record AuthorChangedEvent(UUID userId, String nickname, String imageUrl) {
+}
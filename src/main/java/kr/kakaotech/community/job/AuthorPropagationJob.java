@@ -0,0 +1,202 @@
+package kr.kakaotech.community.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.kakaotech.community.entity.JobCheckpoint;
+import kr.kakaotech.community.repository.JobCheckpointRepository;
+import kr.kakaotech.community.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작성자 닉네임, 프로필 이미지를 게시글에 전파
+ *
+ * posts 는 목록 조회에서 users 조인을 하지 않도록 nickname, author_image_url 을 복사해 둡니다.
+ * 작성자 정보가 바뀌면 커밋 후 이벤트를 작성자별로 모아두고(마지막 변경만 유지)
+ * 백그라운드에서 batch-size 개씩 나눠 트랜잭션마다 갱신합니다.
+ * 실패한 작성자는 대기열에 다시 넣고 retry-ms 마다 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class AuthorPropagationJob {
+
+    static final String BACKFILL_CHECKPOINT_NAME = "author-image-backfill";
+    static final String BACKFILL_DONE = "done";
+
+    private final PostRepository postRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, AuthorChangedEvent> pending = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("author-propagation").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final Counter updatedCounter;
+    private final Counter failedCounter;
+
+    @Value("${author-propagation.batch-size:500}")
+    private int batchSize;
+    @Value("${author-propagation.retry-enabled:true}")
+    private boolean retryEnabled;
+    @Value("${author-propagation.backfill-enabled:true}")
+    private boolean backfillEnabled;
+    @Value("${author-propagation.backfill-chunk-size:5000}")
+    private int backfillChunkSize;
+
+    public AuthorPropagationJob(PostRepository postRepository,
+                                JobCheckpointRepository jobCheckpointRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.updatedCounter = Counter.builder("author_propagation.posts.updated").register(meterRegistry);
+        this.failedCounter = Counter.builder("author_propagation.failures").register(meterRegistry);
+        Gauge.builder("author_propagation.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        pending.put(event.userId(), event);
+        worker.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${author-propagation.retry-ms:60000}")
+    public void retry() {
+        if (retryEnabled && !pending.isEmpty()) {
+            drain();
+        }
+    }
+
+    /**
+     * 대기 중인 작성자 변경 모두 반영
+     * 이미 실행 중이면 건너뜁니다. 실행 중에 들어온 변경은 잠금을 놓은 뒤 다시 확인해서 처리합니다.
+     *
+     * @return 갱신한 게시글 수
+     */
+    public long drain() {
+        Map<UUID, AuthorChangedEvent> failed = new HashMap<>();
+        long updated = 0;
+        while (!pending.isEmpty() && running.compareAndSet(false, true)) {
+            try {
+                updated += drainPending(failed);
+            } finally {
+                running.set(false);
+            }
+        }
+        // 그 사이 더 최신 변경이 들어왔다면 그쪽을 유지합니다.
+        failed.forEach(pending::putIfAbsent);
+        return updated;
+    }
+
+    private long drainPending(Map<UUID, AuthorChangedEvent> failed) {
+        long updated = 0;
+        for (UUID userId : pending.keySet()) {
+            AuthorChangedEvent event = pending.remove(userId);
+            if (event == null) {
+                continue;
+            }
+            try {
+                updated += propagate(event);
+                // 앞선 pass 에서 실패한 이전 변경은 더 이상 재시도하지 않습니다.
+                failed.remove(userId);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                failed.put(userId, event);
+                log.warn("[AuthorPropagationJob] userId={} 전파 실패, 다음 주기에 재시도합니다.", userId, e);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * 작성자 한 명의 게시글을 batch-size 개씩 갱신
+     */
+    long propagate(AuthorChangedEvent event) {
+        long updated = 0;
+        int lastId = 0;
+        while (true) {
+            int afterId = lastId;
+            List<Integer> ids = postRepository.findIdsByUserIdAfter(event.userId(), afterId, PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer count = transactionTemplate.execute(status ->
+                    postRepository.updateAuthor(ids, event.nickname(), event.imageUrl()));
+            updated += count == null ? 0 : count;
+            updatedCounter.increment(count == null ? 0 : count);
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+        return updated;
+    }
+
+    /**
+     * author_image_url 컬럼 추가 이전 게시글을 id 범위로 나눠 채우는 1회성 마이그레이션
+     *
+     * 처리한 위치를 job_checkpoints 에 chunk 마다 기록하고 끝나면 done 으로 표시해서
+     * 이후 기동에서는 조회 한 번으로 건너뜁니다. backfill-enabled 가 false 인 노드(피드 등)는 실행하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAuthorImageUrl() {
+        if (!backfillEnabled) {
+            return;
+        }
+        String position = jobCheckpointRepository.findById(BACKFILL_CHECKPOINT_NAME)
+                .map(JobCheckpoint::getPosition)
+                .orElse(null);
+        if (BACKFILL_DONE.equals(position)) {
+            return;
+        }
+
+        int maxId = postRepository.findMaxId();
+        long filled = 0;
+        for (int fromId = position == null ? 1 : Integer.parseInt(position); fromId <= maxId; fromId += backfillChunkSize) {
+            int chunkFrom = fromId;
+            int chunkTo = fromId + backfillChunkSize - 1;
+            Integer count = transactionTemplate.execute(status -> {
+                int rows = postRepository.backfillAuthorImageUrl(chunkFrom, chunkTo);
+                moveBackfillCheckpoint(String.valueOf(chunkTo + 1));
+                return rows;
+            });
+            filled += count == null ? 0 : count;
+        }
+        transactionTemplate.executeWithoutResult(status -> moveBackfillCheckpoint(BACKFILL_DONE));
+        log.info("[AuthorPropagationJob] author_image_url backfill 완료 : {}", filled);
+    }
+
+    private void moveBackfillCheckpoint(String position) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(BACKFILL_CHECKPOINT_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(new JobCheckpoint(BACKFILL_CHECKPOINT_NAME)));
+        checkpoint.moveTo(position);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
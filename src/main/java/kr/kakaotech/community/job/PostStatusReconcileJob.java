@@ -0,0 +1,305 @@
+package kr.kakaotech.community.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kakaotech.community.dto.response.PostCounterResponse;
+import kr.kakaotech.community.entity.UserStatus;
+import kr.kakaotech.community.repository.CommentRepository;
+import kr.kakaotech.community.repository.LikeRepository;
+import kr.kakaotech.community.repository.PostRepository;
+import kr.kakaotech.community.repository.PostStatusRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * post_statuses 의 좋아요 수, 댓글 수와 user_statuses 의 게시글 수, 받은 좋아요 수 정합성 맞추기
+ *
+ * post id 를 chunk-size 범위로 나눠 GROUP BY 집계와 현재 카운터를 비교하고
+ * 값이 다른 row 만 갱신합니다. 조회수는 원본 데이터가 없어 대상이 아닙니다.
+ * 이어서 user_statuses 를 userId 순서로 chunk-size 개씩 같은 방식으로 맞춥니다.
+ * 갱신은 읽은 카운터 값이 그대로일 때만 적용되어 그 사이 들어온 좋아요, 댓글, 게시글을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostStatusReconcileJob {
+
+    // binary(16) 정렬에서 가장 앞
+    private static final UUID FIRST_USER_ID = new UUID(0, 0);
+
+    private final PostRepository postRepository;
+    private final PostStatusRepository postStatusRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final Counter scannedCounter;
+    private final Counter fixedCounter;
+    private final Counter skippedCounter;
+    private final Counter likeDriftCounter;
+    private final Counter commentDriftCounter;
+    private final Counter userScannedCounter;
+    private final Counter userFixedCounter;
+    private final Counter userSkippedCounter;
+    private final Counter postCountDriftCounter;
+    private final Counter receivedLikeDriftCounter;
+    private final Timer runTimer;
+
+    @Value("${reconcile.post-status.enabled:true}")
+    private boolean enabled;
+    @Value("${reconcile.post-status.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${reconcile.post-status.rows-per-second:5000}")
+    private int rowsPerSecond;
+
+    public PostStatusReconcileJob(PostRepository postRepository,
+                                  PostStatusRepository postStatusRepository,
+                                  LikeRepository likeRepository,
+                                  CommentRepository commentRepository,
+                                  UserStatusRepository userStatusRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postStatusRepository = postStatusRepository;
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.userStatusRepository = userStatusRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.scannedCounter = Counter.builder("post_status.reconcile.scanned").register(meterRegistry);
+        this.fixedCounter = Counter.builder("post_status.reconcile.fixed").register(meterRegistry);
+        this.skippedCounter = Counter.builder("post_status.reconcile.skipped").register(meterRegistry);
+        this.likeDriftCounter = Counter.builder("post_status.reconcile.drift").tag("counter", "like").register(meterRegistry);
+        this.commentDriftCounter = Counter.builder("post_status.reconcile.drift").tag("counter", "comment").register(meterRegistry);
+        this.userScannedCounter = Counter.builder("user_status.reconcile.scanned").register(meterRegistry);
+        this.userFixedCounter = Counter.builder("user_status.reconcile.fixed").register(meterRegistry);
+        this.userSkippedCounter = Counter.builder("user_status.reconcile.skipped").register(meterRegistry);
+        this.postCountDriftCounter = Counter.builder("user_status.reconcile.drift").tag("counter", "post").register(meterRegistry);
+        this.receivedLikeDriftCounter = Counter.builder("user_status.reconcile.drift").tag("counter", "received_like").register(meterRegistry);
+        this.runTimer = Timer.builder("post_status.reconcile.duration").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${reconcile.post-status.cron:0 0 4 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 전체 게시글 정합성 맞추기
+     * 이미 실행 중이면 건너뜁니다.
+     */
+    public ReconcileResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[PostStatusReconcileJob] 이미 실행 중입니다.");
+            return ReconcileResult.EMPTY;
+        }
+
+        try {
+            return runTimer.record(this::reconcileAll);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ReconcileResult reconcileAll() {
+        int maxId = postRepository.findMaxId();
+        ReconcileResult total = ReconcileResult.EMPTY;
+        long startedAt = System.nanoTime();
+
+        for (int fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            int chunkFrom = fromId;
+            int chunkTo = fromId + chunkSize - 1;
+            ReconcileResult chunk = transactionTemplate.execute(status -> reconcileRange(chunkFrom, chunkTo));
+            total = total.plus(chunk);
+
+            throttle(total.scanned(), startedAt);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        UUID afterUserId = FIRST_USER_ID;
+        while (!Thread.currentThread().isInterrupted()) {
+            UUID cursor = afterUserId;
+            UserChunk chunk = transactionTemplate.execute(status -> reconcileUsersAfter(cursor));
+            if (chunk.lastUserId() == null) {
+                break;
+            }
+            total = total.plus(chunk.result());
+            afterUserId = chunk.lastUserId();
+
+            throttle(total.scanned() + total.userScanned(), startedAt);
+        }
+
+        log.info("[PostStatusReconcileJob] scanned={}, fixed={}, likeDrift={}, commentDrift={}, userScanned={}, userFixed={}",
+                total.scanned(), total.fixed(), total.likeDrift(), total.commentDrift(), total.userScanned(), total.userFixed());
+        return total;
+    }
+
+    /**
+     * [fromId, toId] 범위 하나 처리
+     */
+    ReconcileResult reconcileRange(int fromId, int toId) {
+        List<PostCounterResponse> counters = postStatusRepository.findCountersByPostIdRange(fromId, toId);
+        if (counters.isEmpty()) {
+            return ReconcileResult.EMPTY;
+        }
+
+        Map<Integer, Integer> likeCounts = toCountMap(likeRepository.countGroupByPostIdRange(fromId, toId));
+        Map<Integer, Integer> commentCounts = toCountMap(commentRepository.countGroupByPostIdRange(fromId, toId));
+
+        int fixed = 0;
+        long likeDrift = 0;
+        long commentDrift = 0;
+        for (PostCounterResponse counter : counters) {
+            int actualLike = likeCounts.getOrDefault(counter.getPostId(), 0);
+            int actualComment = commentCounts.getOrDefault(counter.getPostId(), 0);
+
+            if (actualLike == counter.getLikeCount() && actualComment == counter.getCommentCount()) {
+                continue;
+            }
+
+            // 집계 이후 좋아요, 댓글이 들어와 카운터가 바뀌었다면 건드리지 않고 다음 실행에 맡깁니다.
+            int updated = postStatusRepository.updateLikeAndCommentCount(
+                    counter.getPostId(), actualLike, actualComment, counter.getLikeCount(), counter.getCommentCount());
+            if (updated == 0) {
+                skippedCounter.increment();
+                continue;
+            }
+
+            likeDrift += Math.abs(actualLike - counter.getLikeCount());
+            commentDrift += Math.abs(actualComment - counter.getCommentCount());
+            fixed++;
+        }
+
+        scannedCounter.increment(counters.size());
+        fixedCounter.increment(fixed);
+        likeDriftCounter.increment(likeDrift);
+        commentDriftCounter.increment(commentDrift);
+
+        return new ReconcileResult(counters.size(), fixed, likeDrift, commentDrift, 0, 0);
+    }
+
+    /**
+     * afterUserId 다음 user_statuses chunk 하나 처리
+     */
+    private UserChunk reconcileUsersAfter(UUID afterUserId) {
+        List<UserStatus> statuses = userStatusRepository.findChunkAfter(afterUserId, PageRequest.of(0, chunkSize));
+        if (statuses.isEmpty()) {
+            return new UserChunk(null, ReconcileResult.EMPTY);
+        }
+
+        return new UserChunk(statuses.get(statuses.size() - 1).getUserId(), reconcileUsers(statuses));
+    }
+
+    /**
+     * 작성자 통계를 삭제되지 않은 게시글 수, 그 게시글들이 받은 좋아요 수와 비교해서 맞추기
+     */
+    ReconcileResult reconcileUsers(List<UserStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return ReconcileResult.EMPTY;
+        }
+
+        List<UUID> userIds = statuses.stream().map(UserStatus::getUserId).toList();
+        Map<UUID, Integer> postCounts = toCountMap(postRepository.countGroupByUserIds(userIds));
+        Map<UUID, Integer> receivedLikeCounts = toCountMap(likeRepository.countReceivedGroupByUserIds(userIds));
+
+        int fixed = 0;
+        long postCountDrift = 0;
+        long receivedLikeDrift = 0;
+        for (UserStatus status : statuses) {
+            int actualPost = postCounts.getOrDefault(status.getUserId(), 0);
+            int actualReceivedLike = receivedLikeCounts.getOrDefault(status.getUserId(), 0);
+
+            if (actualPost == status.getPostCount() && actualReceivedLike == status.getReceivedLikeCount()) {
+                continue;
+            }
+
+            int updated = userStatusRepository.updateCounts(
+                    status.getUserId(), actualPost, actualReceivedLike, status.getPostCount(), status.getReceivedLikeCount());
+            if (updated == 0) {
+                userSkippedCounter.increment();
+                continue;
+            }
+
+            postCountDrift += Math.abs(actualPost - status.getPostCount());
+            receivedLikeDrift += Math.abs(actualReceivedLike - status.getReceivedLikeCount());
+            fixed++;
+        }
+
+        userScannedCounter.increment(statuses.size());
+        userFixedCounter.increment(fixed);
+        postCountDriftCounter.increment(postCountDrift);
+        receivedLikeDriftCounter.increment(receivedLikeDrift);
+
+        return new ReconcileResult(0, 0, 0, 0, statuses.size(), fixed);
+    }
+
+    /**
+     * rows-per-second 를 넘지 않도록 대기
+     */
+    private void throttle(long scanned, long startedAt) {
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+
+        long expectedNanos = TimeUnit.SECONDS.toNanos(scanned) / rowsPerSecond;
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (expectedNanos > elapsedNanos) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(expectedNanos - elapsedNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> Map<K, Integer> toCountMap(List<Object[]> rows) {
+        Map<K, Integer> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((K) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    /**
+     * @param lastUserId 처리한 마지막 userId, 더 없으면 null
+     */
+    private record UserChunk(UUID lastUserId, ReconcileResult result) {
+    }
+
+    public record ReconcileResult(long scanned, long fixed, long likeDrift, long commentDrift,
+                                  long userScanned, long userFixed) {
+        static final ReconcileResult EMPTY = new ReconcileResult(0, 0, 0, 0, 0, 0);
+
+        ReconcileResult plus(ReconcileResult other) {
+            return new ReconcileResult(
+                    scanned + other.scanned,
+                    fixed + other.fixed,
+                    likeDrift + other.likeDrift,
+                    commentDrift + other.commentDrift,
+                    userScanned + other.userScanned,
+                    userFixed + other.userFixed
+            );
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.kakaotech.community.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 만료된 refresh_tokens row 정리
+ *
+ * batch-size 개씩 끊어서 지우므로 한 트랜잭션이 오래 락을 잡지 않습니다.
+ * Redis 저장소는 TTL 로 만료되므로 jpa 저장소일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-store", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter deletedCounter;
+
+    @Value("${purge.refresh-token.enabled:true}")
+    private boolean enabled;
+    @Value("${purge.refresh-token.batch-size:1000}")
+    private int batchSize;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedCounter = Counter.builder("refresh_token.purge.deleted").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${purge.refresh-token.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 지금 기준으로 만료된 토큰 전부 삭제
+     * 이미 실행 중이면 건너뜁니다.
+     */
+    public long run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[RefreshTokenPurgeJob] 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long total = 0;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(now, batchSize));
+                deletedCounter.increment(deleted);
+                total += deleted;
+            } while (deleted == batchSize && !Thread.currentThread().isInterrupted());
+
+            log.info("[RefreshTokenPurgeJob] deleted={}", total);
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package kr.kakaotech.community.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.kakaotech.community.entity.JobCheckpoint;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import kr.kakaotech.community.repository.CommentLikeRepository;
+import kr.kakaotech.community.repository.CommentRepository;
+import kr.kakaotech.community.repository.ImageRepository;
+import kr.kakaotech.community.repository.JobCheckpointRepository;
+import kr.kakaotech.community.repository.LikeRepository;
+import kr.kakaotech.community.repository.PostRepository;
+import kr.kakaotech.community.repository.PostStatusRepository;
+import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import kr.kakaotech.community.service.ImageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보관 기간이 지난 탈퇴 회원 정리
+ *
+ * 탈퇴 회원을 id 순서로 chunk-size 명씩 골라 한 트랜잭션에서 집합 단위 쿼리로 지웁니다.
+ * - 좋아요: 게시글, 댓글 좋아요 수를 먼저 차감한 뒤 row 삭제
+ * - refresh 토큰, 프로필 이미지(기본 이미지 제외) 삭제
+ * - 게시글, 댓글이 남은 회원은 row 를 지울 수 없어 email, 이미지만 비우고, 나머지는 row 삭제
+ *   게시글에 복사해 둔 작성자 이미지 url 도 같이 비웁니다.
+ * 처리한 마지막 id 는 job_checkpoints 에 같은 트랜잭션으로 기록하므로 중간에 멈춰도 이어서 진행합니다.
+ * 스토리지의 이미지 파일 삭제는 ImageService.deleteImage 가 구현되면 연결합니다.
+ */
+@Slf4j
+@Component
+public class WithdrawnUserPurgeJob {
+
+    static final String CHECKPOINT_NAME = "withdrawn-user-purge";
+
+    private final UserRepository userRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final LikeRepository likeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final PostStatusRepository postStatusRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ImageRepository imageRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final Counter deletedCounter;
+    private final Counter anonymizedCounter;
+    private final Counter postLikeCounter;
+    private final Counter commentLikeCounter;
+    private final Counter imageCounter;
+    private final Timer runTimer;
+
+    @Value("${purge.withdrawn-user.enabled:true}")
+    private boolean enabled;
+    @Value("${purge.withdrawn-user.retention-days:30}")
+    private int retentionDays;
+    @Value("${purge.withdrawn-user.chunk-size:500}")
+    private int chunkSize;
+    @Value("${purge.withdrawn-user.users-per-second:1000}")
+    private int usersPerSecond;
+
+    public WithdrawnUserPurgeJob(UserRepository userRepository,
+                                 UserStatusRepository userStatusRepository,
+                                 LikeRepository likeRepository,
+                                 CommentLikeRepository commentLikeRepository,
+                                 PostStatusRepository postStatusRepository,
+                                 PostRepository postRepository,
+                                 CommentRepository commentRepository,
+                                 RefreshTokenRepository refreshTokenRepository,
+                                 ImageRepository imageRepository,
+                                 JobCheckpointRepository jobCheckpointRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userStatusRepository = userStatusRepository;
+        this.likeRepository = likeRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.postStatusRepository = postStatusRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.imageRepository = imageRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.deletedCounter = Counter.builder("user.purge.deleted").register(meterRegistry);
+        this.anonymizedCounter = Counter.builder("user.purge.anonymized").register(meterRegistry);
+        this.postLikeCounter = Counter.builder("user.purge.likes").tag("target", "post").register(meterRegistry);
+        this.commentLikeCounter = Counter.builder("user.purge.likes").tag("target", "comment").register(meterRegistry);
+        this.imageCounter = Counter.builder("user.purge.images").register(meterRegistry);
+        this.runTimer = Timer.builder("user.purge.duration").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${purge.withdrawn-user.cron:0 0 5 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 체크포인트부터 끝까지 정리
+     * 이미 실행 중이면 건너뜁니다.
+     */
+    public PurgeResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[WithdrawnUserPurgeJob] 이미 실행 중입니다.");
+            return PurgeResult.EMPTY;
+        }
+
+        try {
+            return runTimer.record(this::purgeAll);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PurgeResult purgeAll() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        PurgeResult total = PurgeResult.EMPTY;
+        long startedAt = System.nanoTime();
+
+        PurgeResult chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> purgeNextChunk(cutoff));
+            total = total.plus(chunk);
+
+            throttle(total.scanned(), startedAt);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        } while (chunk.scanned() == chunkSize);
+
+        log.info("[WithdrawnUserPurgeJob] scanned={}, deleted={}, anonymized={}, postLikes={}, commentLikes={}, images={}",
+                total.scanned(), total.deleted(), total.anonymized(), total.postLikes(), total.commentLikes(), total.images());
+        return total;
+    }
+
+    /**
+     * 체크포인트 다음 chunk 하나 처리
+     * 마지막 chunk 면 체크포인트를 처음으로 되돌립니다.
+     */
+    PurgeResult purgeNextChunk(LocalDateTime cutoff) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(CHECKPOINT_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(new JobCheckpoint(CHECKPOINT_NAME)));
+        UUID lastId = checkpoint.getPosition() == null ? new UUID(0, 0) : UUID.fromString(checkpoint.getPosition());
+
+        List<UUID> userIds = userRepository.findPurgeTargetIds(cutoff, lastId, PageRequest.ofSize(chunkSize));
+        if (userIds.isEmpty()) {
+            checkpoint.moveTo(null);
+            return PurgeResult.EMPTY;
+        }
+
+        postStatusRepository.subtractLikesByUserIds(userIds);
+        userStatusRepository.subtractReceivedLikesByLikerIds(userIds);
+        int postLikes = likeRepository.deleteByUserIds(userIds);
+        commentRepository.subtractLikesByUserIds(userIds);
+        int commentLikes = commentLikeRepository.deleteByUserIds(userIds);
+        refreshTokenRepository.deleteAllByUserIds(userIds);
+
+        List<Integer> imageIds = userRepository.findImageIdsByUserIds(userIds);
+        int anonymized = userRepository.anonymizeWithContent(userIds);
+        postRepository.clearAuthorImageUrlByUserIds(userIds);
+        int deleted = userRepository.deleteWithoutContent(userIds);
+        userStatusRepository.deleteWithoutUser(userIds);
+        int images = imageIds.isEmpty() ? 0 : imageRepository.deleteUnreferenced(imageIds, ImageService.DEFAULT_IMAGE_COUNT);
+
+        checkpoint.moveTo(userIds.size() == chunkSize ? userIds.get(userIds.size() - 1).toString() : null);
+
+        deletedCounter.increment(deleted);
+        anonymizedCounter.increment(anonymized);
+        postLikeCounter.increment(postLikes);
+        commentLikeCounter.increment(commentLikes);
+        imageCounter.increment(images);
+
+        return new PurgeResult(userIds.size(), deleted, anonymized, postLikes, commentLikes, images);
+    }
+
+    /**
+     * users-per-second 를 넘지 않도록 대기
+     */
+    private void throttle(long scanned, long startedAt) {
+        if (usersPerSecond <= 0) {
+            return;
+        }
+
+        long expectedNanos = TimeUnit.SECONDS.toNanos(scanned) / usersPerSecond;
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (expectedNanos > elapsedNanos) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(expectedNanos - elapsedNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public record PurgeResult(long scanned, long deleted, long anonymized, long postLikes, long commentLikes, long images) {
+        static final PurgeResult EMPTY = new PurgeResult(0, 0, 0, 0, 0, 0);
+
+        PurgeResult plus(PurgeResult other) {
+            return new PurgeResult(
+                    scanned + other.scanned,
+                    deleted + other.deleted,
+                    anonymized + other.anonymized,
+                    postLikes + other.postLikes,
+                    commentLikes + other.commentLikes,
+                    images + other.images
+            );
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package kr.kakaotech.community.repository;
+
+import kr.kakaotech.community.entity.CommentLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
+
+    /**
+     * (user_id, comment_id) unique 제약에 걸리면 무시합니다.
+     * 실제로 추가된 경우에만 1을 반환합니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO comment_like (user_id, comment_id, created_at)
+        VALUES (:userId, :commentId, NOW())
+    """, nativeQuery = true)
+    int insertIgnore(@Param("userId") UUID userId, @Param("commentId") int commentId);
+
+    @Modifying
+    @Query("""
+        DELETE FROM CommentLike cl
+        WHERE cl.user.id = :userId AND cl.comment.id = :commentId
+    """)
+    int deleteByUserIdAndCommentId(@Param("userId") UUID userId, @Param("commentId") int commentId);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.user.id IN :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 한 페이지의 댓글 중 내가 좋아요 누른 댓글 id 를 IN 한 번으로 조회
+     */
+    @Query("""
+        SELECT cl.comment.id
+        FROM CommentLike cl
+        WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds
+    """)
+    List<Integer> findLikedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<Integer> commentIds);
+}
@@ -1,13 +1,158 @@
 package kr.kakaotech.community.repository;
 
+import kr.kakaotech.community.dto.response.CommentResponse;
 import kr.kakaotech.community.entity.Comment;
 import kr.kakaotech.community.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
+
+    /**
+     * userIds 가 누른 좋아요만큼 댓글 좋아요 수 차감 (좋아요 row 를 지우기 전에 호출)
+     */
+    @Modifying
+    @Query("""
+        UPDATE comments c
+        SET c.likeCount = c.likeCount - CAST((SELECT COUNT(cl) FROM CommentLike cl WHERE cl.comment.id = c.id AND cl.user.id IN :userIds) AS Integer)
+        WHERE c.id IN (SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id IN :userIds)
+    """)
+    int subtractLikesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     Page<Comment> findByPost(Post post, Pageable pageable);
+
+    /**
+     * 댓글 목록 Projection (최상위 댓글만)
+     * 작성자를 join 해서 한 번에 가져오므로 댓글마다 users 를 조회하지 않습니다.
+     */
+    @Query(value = """
+                SELECT new kr.kakaotech.community.dto.response.CommentResponse(
+                            c.id, c.content, c.deleted, c.createdAt, u.id, u.nickname, c.likeCount,
+                            c.parentId, c.rootId, c.depth, c.replyCount
+                )
+                FROM comments c
+                JOIN c.user u
+                WHERE c.post.id = :postId
+                AND c.parentId IS NULL
+            """,
+            countQuery = """
+                SELECT COUNT(c)
+                FROM comments c
+                WHERE c.post.id = :postId
+                AND c.parentId IS NULL
+            """)
+    Page<CommentResponse> findCommentResponseByPostId(@Param("postId") int postId, Pageable pageable);
+
+    /**
+     * 스레드 전체 조회
+     * (root_id, path) 인덱스 range scan 한 번으로 depth-first 순서대로 가져옵니다.
+     */
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.CommentResponse(
+                            c.id, c.content, c.deleted, c.createdAt, u.id, u.nickname, c.likeCount,
+                            c.parentId, c.rootId, c.depth, c.replyCount
+                )
+                FROM comments c
+                JOIN c.user u
+                WHERE c.rootId = :rootId
+                ORDER BY c.path
+            """)
+    List<CommentResponse> findThreadByRootId(@Param("rootId") int rootId);
+
+    /**
+     * 최상위 댓글 N개 + 각 스레드의 앞쪽 답글 K개
+     * reply_seq 는 스레드 안에서 작성 순서이므로 K개 안에 포함된 답글의 부모도 항상 포함됩니다.
+     */
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.CommentResponse(
+                            c.id, c.content, c.deleted, c.createdAt, u.id, u.nickname, c.likeCount,
+                            c.parentId, c.rootId, c.depth, c.replyCount
+                )
+                FROM comments c
+                JOIN c.user u
+                JOIN (
+                    SELECT r.id AS id
+                    FROM comments r
+                    WHERE r.post.id = :postId
+                    AND r.parentId IS NULL
+                    ORDER BY r.id
+                    LIMIT :rootSize OFFSET :rootOffset
+                ) roots ON c.rootId = roots.id
+                WHERE c.replySeq <= :replyLimit
+                ORDER BY c.rootId, c.path
+            """)
+    List<CommentResponse> findThreadsByPostId(@Param("postId") int postId,
+                                              @Param("rootOffset") int rootOffset,
+                                              @Param("rootSize") int rootSize,
+                                              @Param("replyLimit") int replyLimit);
+
+    /**
+     * 정합성 검사용 - post_id 범위의 게시글별 삭제되지 않은 댓글 수 [postId, count]
+     */
+    @Query("""
+        SELECT c.post.id, COUNT(c)
+        FROM comments c
+        WHERE c.post.id BETWEEN :fromId AND :toId
+        AND c.deleted = false
+        GROUP BY c.post.id
+    """)
+    List<Object[]> countGroupByPostIdRange(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @Query("""
+        SELECT c.replyCount
+        FROM comments c
+        WHERE c.id = :id
+    """)
+    int findReplyCountById(@Param("id") int id);
+
+    @Modifying
+    @Query(value = """
+        UPDATE comments
+        SET reply_count = reply_count + 1
+        WHERE id = :id
+    """, nativeQuery = true)
+    void incrementReplyCount(@Param("id") int id);
+
+    /**
+     * 답글 기능 이전에 작성된 댓글의 root_id, path 채우기
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE comments
+        SET root_id = id, path = LPAD(id, 10, '0')
+        WHERE root_id IS NULL
+    """, nativeQuery = true)
+    int backfillRootPath();
+
+    @Query("""
+        SELECT c.likeCount
+        FROM comments c
+        WHERE c.id = :id AND c.deleted = false
+    """)
+    Optional<Integer> findLikeCountById(@Param("id") int id);
+
+    @Modifying
+    @Query(value = """
+        UPDATE comments
+        SET like_count = like_count + 1
+        WHERE id = :id
+    """, nativeQuery = true)
+    void incrementLikeCount(@Param("id") int id);
+
+    @Modifying
+    @Query(value = """
+        UPDATE comments
+        SET like_count = like_count - 1
+        WHERE id = :id AND like_count > 0
+    """, nativeQuery = true)
+    void decrementLikeCount(@Param("id") int id);
 }
@@ -0,0 +1,60 @@
+package kr.kakaotech.community.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * AUTO_INCREMENT 에서 pooled sequence 로 바꾼 테이블의 sequence 값 맞추기
+ *
+ * MySQL 에는 sequence 가 없어 Hibernate 가 {table}_seq 테이블(next_val)로 흉내냅니다.
+ * ddl-auto 로 새로 만들어지면 1 부터 시작하므로 기존 row 의 id 와 겹칩니다.
+ * pooled optimizer 는 읽은 값 V 에 대해 (V - 50, V] 구간을 쓰므로 V 가 MAX(id) + 50 이상이 되도록 올립니다.
+ * 이미 그보다 크면 건드리지 않아서 재시작이나 여러 노드에서 실행돼도 안전합니다.
+ * 웹 요청을 받기 전에 끝나도록 EntityManagerFactory(스키마 생성) 직후에 실행합니다.
+ * 스키마를 관리하지 않는 읽기 전용 노드(피드 등)는 id-sequence.align-enabled=false 로 끕니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "id-sequence.align-enabled", havingValue = "true", matchIfMissing = true)
+@DependsOn("entityManagerFactory")
+public class IdSequenceAligner {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 합니다.
+    private static final int ALLOCATION_SIZE = 50;
+
+    // sequence 테이블 -> id 를 쓰는 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "posts_seq", "posts",
+            "images_seq", "images",
+            "post_image_seq", "post_image",
+            "comments_seq", "comments"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            String floor = "(SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table + ")";
+            try {
+                int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = " + floor + " WHERE next_val < " + floor);
+                if (updated > 0) {
+                    log.info("[IdSequenceAligner] {} 를 {} 의 MAX(id) 뒤로 맞췄습니다.", sequence, table);
+                }
+            } catch (Exception e) {
+                // 네이티브 sequence 를 쓰는 DB 에서는 테이블이 없습니다.
+                log.debug("[IdSequenceAligner] {} 건너뜀 : {}", sequence, e.getMessage());
+            }
+        });
+    }
+}
@@ -2,6 +2,24 @@ package kr.kakaotech.community.repository;
 
 import kr.kakaotech.community.entity.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface ImageRepository extends JpaRepository<Image, Integer> {
+
+    /**
+     * 어디서도 참조하지 않는 이미지 삭제
+     * 기본 프로필 이미지(1 ~ defaultImageCount)는 여러 회원이 같이 쓰므로 지우지 않습니다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM images i
+        WHERE i.id IN :imageIds AND i.id > :defaultImageCount
+          AND NOT EXISTS (SELECT 1 FROM users u WHERE u.image = i)
+          AND NOT EXISTS (SELECT 1 FROM post_image pi WHERE pi.image = i)
+    """)
+    int deleteUnreferenced(@Param("imageIds") Collection<Integer> imageIds, @Param("defaultImageCount") int defaultImageCount);
 }
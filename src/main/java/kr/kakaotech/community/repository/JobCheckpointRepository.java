@@ -0,0 +1,7 @@
+package kr.kakaotech.community.repository;
+
+import kr.kakaotech.community.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
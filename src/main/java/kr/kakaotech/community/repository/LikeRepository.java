@@ -2,7 +2,12 @@ package kr.kakaotech.community.repository;
 
 import kr.kakaotech.community.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +15,31 @@ public interface LikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByUser_IdAndPost_Id(UUID userId, Integer postId);
 
     int countByPost_Id(Integer postId);
+
+    @Modifying
+    @Query("DELETE FROM post_likes pl WHERE pl.user.id IN :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 정합성 검사용 - post_id 범위의 게시글별 좋아요 수 [postId, count]
+     */
+    @Query("""
+        SELECT pl.post.id, COUNT(pl)
+        FROM post_likes pl
+        WHERE pl.post.id BETWEEN :fromId AND :toId
+        GROUP BY pl.post.id
+    """)
+    List<Object[]> countGroupByPostIdRange(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    /**
+     * 정합성 검사용 - 작성자별 삭제되지 않은 게시글이 받은 좋아요 수 [userId, count]
+     */
+    @Query("""
+        SELECT pl.post.user.id, COUNT(pl)
+        FROM post_likes pl
+        WHERE pl.post.user.id IN :userIds
+        AND pl.post.deleted = false
+        GROUP BY pl.post.user.id
+    """)
+    List<Object[]> countReceivedGroupByUserIds(@Param("userIds") Collection<UUID> userIds);
 }
@@ -6,22 +6,24 @@ import kr.kakaotech.community.entity.Post;
 import kr.kakaotech.community.entity.PostType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("""
                 SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
                             p.id, p.title, p.nickname, p.createdAt,
-                            ps.likeCount, ps.commentCount, ps.viewCount, u.image.url, p.type
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
                 )
                 FROM posts p
                 JOIN post_statuses ps ON ps.postId = p.id
-                JOIN users u ON p.user = u
                 WHERE p.deleted = false
                 ORDER BY p.id DESC
             """)
@@ -30,11 +32,10 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("""
                 SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
                             p.id, p.title, p.nickname, p.createdAt,
-                            ps.likeCount, ps.commentCount, ps.viewCount, u.image.url, p.type
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
                 )
                 FROM posts p
                 JOIN post_statuses ps ON ps.post = p
-                JOIN users u ON p.user = u
                 WHERE p.id < :cursor AND p.deleted = false
                 ORDER BY p.id DESC
             """)
@@ -43,11 +44,10 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("""
                 SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
                             p.id, p.title, p.nickname, p.createdAt,
-                            ps.likeCount, ps.commentCount, ps.viewCount, u.image.url, p.type
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
                 )
                 from posts p
                 join post_statuses ps on ps.post = p
-                join users u on p.user = u
                 where p.deleted = false
                 and p.createdAt >= :startDate
                 order by ps.likeCount desc
@@ -57,11 +57,10 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("""
                 SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
                             p.id, p.title, p.nickname, p.createdAt,
-                            ps.likeCount, ps.commentCount, ps.viewCount, u.image.url, p.type
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
                 )
                 from posts p
                 join post_statuses ps on ps.post = p
-                join users u on p.user = u
                 where p.deleted = false
                 AND p.type = 'completed'
                 order by ps.likeCount desc
@@ -71,23 +70,50 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("""
                 SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
                             p.id, p.title, p.nickname, p.createdAt,
-                            ps.likeCount, ps.commentCount, ps.viewCount, u.image.url, p.type
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
                 )
                 from posts p
                 join post_statuses ps on ps.post = p
-                join users u on p.user = u
                 where p.deleted = false
                 AND p.nickname = :nickname
+                order by p.id desc
             """)
     List<PostSummaryResponse> findPostByNickname(String nickname, Pageable pageable);
 
+    /**
+     * 작성자 피드 - (user_id, deleted, id DESC) 인덱스를 따라 읽습니다.
+     */
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
+                            p.id, p.title, p.nickname, p.createdAt,
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
+                )
+                FROM posts p
+                JOIN post_statuses ps ON ps.post = p
+                WHERE p.user.id = :userId AND p.deleted = false
+                ORDER BY p.id DESC
+            """)
+    List<PostSummaryResponse> findAuthorPost(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.PostSummaryResponse(
+                            p.id, p.title, p.nickname, p.createdAt,
+                            ps.likeCount, ps.commentCount, ps.viewCount, p.authorImageUrl, p.type
+                )
+                FROM posts p
+                JOIN post_statuses ps ON ps.post = p
+                WHERE p.user.id = :userId AND p.deleted = false AND p.id < :cursor
+                ORDER BY p.id DESC
+            """)
+    List<PostSummaryResponse> findAuthorPostByCursor(@Param("userId") UUID userId, @Param("cursor") int cursor, Pageable pageable);
+
     @Query("""
         SELECT p
         FROM posts p
         LEFT JOIN FETCH p.postImages pi
         LEFT JOIN FETCH pi.image
         JOIN FETCH p.user u
-        JOIN FETCH u.image
+        LEFT JOIN FETCH u.image
         WHERE p.deleted = false
         AND p.id = :postId
     """)
@@ -102,7 +128,7 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
         ps.likeCount,
         ps.commentCount,
         ps.viewCount,
-        u.image.url,
+        p.authorImageUrl,
         p.type,
         (
             SELECT MIN(pi2.image.url)
@@ -112,13 +138,78 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     )
     FROM posts p
         JOIN post_statuses ps ON ps.post = p
-        JOIN users u ON p.user = u
     WHERE p.deleted = false
     ORDER BY p.createdAt DESC
     """)
     List<PostSummaryWithImageResponse> findPostWithImage(Pageable pageable);
 
 
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM posts p")
+    int findMaxId();
+
+    /**
+     * 정합성 검사용 - 작성자별 삭제되지 않은 게시글 수 [userId, count]
+     */
+    @Query("""
+        SELECT p.user.id, COUNT(p)
+        FROM posts p
+        WHERE p.user.id IN :userIds
+        AND p.deleted = false
+        GROUP BY p.user.id
+    """)
+    List<Object[]> countGroupByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 작성자의 게시글 id - 작성자 정보 전파를 batch 단위로 나눌 때 사용
+     */
+    @Query("""
+        SELECT p.id
+        FROM posts p
+        WHERE p.user.id = :userId AND p.id > :lastId
+        ORDER BY p.id
+    """)
+    List<Integer> findIdsByUserIdAfter(@Param("userId") UUID userId, @Param("lastId") int lastId, Pageable pageable);
+
+    @Modifying
+    @Query("""
+        UPDATE posts p
+        SET p.nickname = :nickname, p.authorImageUrl = :authorImageUrl
+        WHERE p.id IN :ids
+    """)
+    int updateAuthor(@Param("ids") List<Integer> ids,
+                     @Param("nickname") String nickname,
+                     @Param("authorImageUrl") String authorImageUrl);
+
+    /**
+     * author_image_url 컬럼 추가 이전 게시글 채우기
+     */
+    boolean existsByIdAndDeletedFalse(int id);
+
+    /**
+     * 프로필 이미지를 비운 회원의 게시글에 남은 작성자 이미지 url 제거 (탈퇴 회원 정리 job 용)
+     */
+    @Modifying
+    @Query("""
+        UPDATE posts p
+        SET p.authorImageUrl = NULL
+        WHERE p.user.id IN :userIds AND p.authorImageUrl IS NOT NULL
+    """)
+    int clearAuthorImageUrlByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        SET author_image_url = (
+            SELECT i.url
+            FROM users u
+            JOIN images i ON i.id = u.image_id
+            WHERE u.id = p.user_id
+        )
+        WHERE p.author_image_url IS NULL AND p.id BETWEEN :fromId AND :toId
+          AND p.user_id IN (SELECT u.id FROM users u WHERE u.image_id IS NOT NULL)
+    """, nativeQuery = true)
+    int backfillAuthorImageUrl(@Param("fromId") int fromId, @Param("toId") int toId);
+
     int countPostByType(PostType type);
 
     int countByDeletedFalseAndType(PostType type);
@@ -1,15 +1,30 @@
 package kr.kakaotech.community.repository;
 
+import kr.kakaotech.community.dto.response.PostCounterResponse;
 import kr.kakaotech.community.entity.PostStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface PostStatusRepository extends JpaRepository<PostStatus, Integer> {
 
+    /**
+     * userIds 가 누른 좋아요만큼 게시글 좋아요 수 차감 (좋아요 row 를 지우기 전에 호출)
+     */
+    @Modifying
+    @Query("""
+        UPDATE post_statuses ps
+        SET ps.likeCount = ps.likeCount - CAST((SELECT COUNT(pl) FROM post_likes pl WHERE pl.post.id = ps.postId AND pl.user.id IN :userIds) AS Integer)
+        WHERE ps.postId IN (SELECT pl.post.id FROM post_likes pl WHERE pl.user.id IN :userIds)
+    """)
+    int subtractLikesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     @Modifying
     @Query(value = """
         UPDATE post_statuses
@@ -42,4 +57,48 @@ public interface PostStatusRepository extends JpaRepository<PostStatus, Integer>
     """, nativeQuery = true)
     void incrementCommentCount(@Param("id") int id);
 
+    @Modifying
+    @Query(value = """
+        UPDATE post_statuses
+        SET comment_count = comment_count - 1
+        WHERE post_id = :id AND comment_count > 0
+    """, nativeQuery = true)
+    void decrementCommentCount(@Param("id") int id);
+
+    /**
+     * 정합성 보정 - 읽은 뒤 카운터가 바뀌었으면(좋아요 토글, 댓글 등록) 갱신하지 않고 0 을 반환합니다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE post_statuses
+        SET like_count = :likeCount, comment_count = :commentCount
+        WHERE post_id = :id
+        AND like_count = :expectedLike AND comment_count = :expectedComment
+    """, nativeQuery = true)
+    int updateLikeAndCommentCount(@Param("id") int id,
+                                  @Param("likeCount") int likeCount,
+                                  @Param("commentCount") int commentCount,
+                                  @Param("expectedLike") int expectedLike,
+                                  @Param("expectedComment") int expectedComment);
+
+    /**
+     * 정합성 검사용 - post_id 범위의 현재 카운터
+     */
+    @Query("""
+        SELECT new kr.kakaotech.community.dto.response.PostCounterResponse(
+                    ps.postId, ps.viewCount, ps.likeCount, ps.commentCount
+        )
+        FROM post_statuses ps
+        WHERE ps.postId BETWEEN :fromId AND :toId
+    """)
+    List<PostCounterResponse> findCountersByPostIdRange(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @Query("""
+        SELECT new kr.kakaotech.community.dto.response.PostCounterResponse(
+                    ps.postId, ps.viewCount, ps.likeCount, ps.commentCount
+        )
+        FROM post_statuses ps
+        WHERE ps.postId IN :postIds
+    """)
+    List<PostCounterResponse> findCountersByPostIds(@Param("postIds") Collection<Integer> postIds);
 }
@@ -0,0 +1,57 @@
+package kr.kakaotech.community.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블 통계 기반 row 수 추정
+ *
+ * MySQL information_schema.TABLES 의 TABLE_ROWS 를 읽습니다. InnoDB 에서는 샘플링 값이라 정확하지 않지만
+ * COUNT(*) 처럼 테이블 전체를 읽지 않습니다. 통계를 읽을 수 없는 DB 에서는 -1 을 반환합니다.
+ * 추정치는 ttl-ms 동안 메모리에 둡니다.
+ */
+@Slf4j
+@Component
+public class TableRowEstimator {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    @Value("${table-stats.ttl-ms:60000}")
+    private long ttlMs;
+
+    public TableRowEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long estimate(String table) {
+        long now = System.currentTimeMillis();
+        Estimate cached = estimates.get(table);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.rows();
+        }
+
+        long rows;
+        try {
+            Long found = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table);
+            rows = found == null ? -1 : found;
+        } catch (Exception e) {
+            log.debug("[TableRowEstimator] 통계 조회 실패 table={} : {}", table, e.getMessage());
+            rows = -1;
+        }
+
+        estimates.put(table, new Estimate(rows, now + ttlMs));
+        return rows;
+    }
+
+    private record Estimate(long rows, long expiresAtMillis) {
+    }
+}
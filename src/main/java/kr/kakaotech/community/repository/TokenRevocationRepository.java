@@ -0,0 +1,23 @@
+package kr.kakaotech.community.repository;
+
+import kr.kakaotech.community.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, UUID> {
+
+    @Query("SELECT t.userId FROM TokenRevocation t")
+    List<UUID> findAllUserIds();
+
+    @Query("SELECT t.notBefore FROM TokenRevocation t WHERE t.userId = :userId")
+    Long findNotBeforeByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation t WHERE t.notBefore < :threshold")
+    int deleteOlderThan(@Param("threshold") long threshold);
+}
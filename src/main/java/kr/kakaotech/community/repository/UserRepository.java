@@ -1,9 +1,19 @@
 package kr.kakaotech.community.repository;
 
+import kr.kakaotech.community.availability.UserInfoKey;
+import kr.kakaotech.community.dto.response.UserSummaryResponse;
 import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.global.security.UserProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +24,74 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT new kr.kakaotech.community.global.security.UserProfile(u.nickname, i.url, u.deleted) " +
+            "FROM users u LEFT JOIN u.image i WHERE u.id = :userId")
+    Optional<UserProfile> findProfileById(@Param("userId") UUID userId);
+
+    /**
+     * 보관 기간이 지난 탈퇴 회원 id (id 순서, 정리 job 용)
+     * 이미 익명화된 회원(email 이 null)은 제외합니다.
+     */
+    @Query("""
+                SELECT u.id FROM users u
+                WHERE u.deleted = true AND u.deletedAt < :cutoff AND u.email IS NOT NULL AND u.id > :lastId
+                ORDER BY u.id
+            """)
+    List<UUID> findPurgeTargetIds(@Param("cutoff") LocalDateTime cutoff, @Param("lastId") UUID lastId, Pageable pageable);
+
+    @Query("SELECT u.image.id FROM users u WHERE u.id IN :userIds AND u.image IS NOT NULL")
+    List<Integer> findImageIdsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 게시글, 댓글이 남아 있는 회원은 row 를 지울 수 없으므로 개인정보만 비웁니다.
+     * 프로필 이미지가 없어지므로 users.image 를 읽는 쪽은 null 을 고려해야 합니다.
+     */
+    @Modifying
+    @Query("""
+                UPDATE users u SET u.email = NULL, u.image = NULL
+                WHERE u.id IN :userIds
+                  AND (EXISTS (SELECT 1 FROM posts p WHERE p.user = u) OR EXISTS (SELECT 1 FROM comments c WHERE c.user = u))
+            """)
+    int anonymizeWithContent(@Param("userIds") Collection<UUID> userIds);
+
+    @Modifying
+    @Query("""
+                DELETE FROM users u
+                WHERE u.id IN :userIds
+                  AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.user = u)
+                  AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.user = u)
+            """)
+    int deleteWithoutContent(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.UserSummaryResponse(
+                            u.id, u.email, u.nickname, u.deleted, u.role, i.url, u.createdAt
+                )
+                FROM users u
+                LEFT JOIN u.image i
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserSummaryResponse> findUserSummaries(Pageable pageable);
+
+    @Query("""
+                SELECT new kr.kakaotech.community.dto.response.UserSummaryResponse(
+                            u.id, u.email, u.nickname, u.deleted, u.role, i.url, u.createdAt
+                )
+                FROM users u
+                LEFT JOIN u.image i
+                WHERE u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserSummaryResponse> findUserSummariesByCursor(@Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id,
+                                                        Pageable pageable);
+
+    @Query("SELECT new kr.kakaotech.community.availability.UserInfoKey(u.id, u.email, u.nickname) " +
+            "FROM users u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserInfoKey> findUserInfoKeysAfter(@Param("lastId") UUID lastId, Pageable pageable);
+
+    @Query("SELECT new kr.kakaotech.community.availability.UserInfoKey(u.id, u.email, u.nickname) " +
+            "FROM users u WHERE u.id > :lastId AND u.deleted = false ORDER BY u.id")
+    List<UserInfoKey> findActiveUserInfoKeysAfter(@Param("lastId") UUID lastId, Pageable pageable);
 }
@@ -0,0 +1,115 @@
+package kr.kakaotech.community.repository;
+
+import kr.kakaotech.community.entity.UserStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserStatusRepository extends JpaRepository<UserStatus, UUID> {
+
+    @Modifying
+    @Query("""
+        UPDATE user_statuses us
+        SET us.postCount = us.postCount + 1
+        WHERE us.userId = :userId
+    """)
+    void incrementPostCount(@Param("userId") UUID userId);
+
+    /**
+     * 게시글 삭제 - 게시글 수와 그 게시글이 받은 좋아요 수를 함께 차감
+     * 한쪽이 이미 어긋나 0 이더라도 다른 쪽 차감은 반영되도록 컬럼마다 0 아래로 내려가지 않게 막습니다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE user_statuses us
+        SET us.postCount = GREATEST(us.postCount - 1, 0),
+            us.receivedLikeCount = GREATEST(us.receivedLikeCount - :likeCount, 0)
+        WHERE us.userId = :userId
+    """)
+    void subtractPost(@Param("userId") UUID userId, @Param("likeCount") int likeCount);
+
+    /**
+     * 게시글 작성자의 받은 좋아요 수 갱신 - 삭제된 게시글이면 반영하지 않습니다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE user_statuses us
+        SET us.receivedLikeCount = us.receivedLikeCount + :delta
+        WHERE us.userId = (SELECT p.user.id FROM posts p WHERE p.id = :postId AND p.deleted = false)
+    """)
+    void addReceivedLikeCount(@Param("postId") int postId, @Param("delta") int delta);
+
+    /**
+     * userIds 가 누른 좋아요만큼 작성자들의 받은 좋아요 수 차감 (좋아요 row 를 지우기 전에 호출)
+     */
+    @Modifying
+    @Query("""
+        UPDATE user_statuses us
+        SET us.receivedLikeCount = us.receivedLikeCount - CAST((
+            SELECT COUNT(pl) FROM post_likes pl
+            WHERE pl.post.user.id = us.userId AND pl.post.deleted = false AND pl.user.id IN :userIds
+        ) AS Integer)
+        WHERE us.userId IN (
+            SELECT pl.post.user.id FROM post_likes pl
+            WHERE pl.post.deleted = false AND pl.user.id IN :userIds
+        )
+    """)
+    int subtractReceivedLikesByLikerIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 정합성 검사용 - userId 순서로 afterUserId 다음 chunk
+     */
+    @Query("SELECT us FROM user_statuses us WHERE us.userId > :afterUserId ORDER BY us.userId")
+    List<UserStatus> findChunkAfter(@Param("afterUserId") UUID afterUserId, Pageable pageable);
+
+    /**
+     * 정합성 보정 - 읽은 값이 그대로일 때만 갱신합니다. (그 사이 게시글, 좋아요가 반영됐으면 0 반환)
+     */
+    @Modifying
+    @Query("""
+        UPDATE user_statuses us
+        SET us.postCount = :postCount, us.receivedLikeCount = :receivedLikeCount
+        WHERE us.userId = :userId
+          AND us.postCount = :expectedPostCount
+          AND us.receivedLikeCount = :expectedReceivedLikeCount
+    """)
+    int updateCounts(@Param("userId") UUID userId,
+                     @Param("postCount") int postCount,
+                     @Param("receivedLikeCount") int receivedLikeCount,
+                     @Param("expectedPostCount") int expectedPostCount,
+                     @Param("expectedReceivedLikeCount") int expectedReceivedLikeCount);
+
+    /**
+     * users row 가 지워진 회원의 통계 정리
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM user_statuses us
+        WHERE us.userId IN :userIds
+          AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = us.userId)
+    """)
+    int deleteWithoutUser(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 통계 기능 이전에 가입한 회원의 row 를 현재 게시글, 좋아요로 채우기
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_statuses (user_id, post_count, received_like_count)
+        SELECT u.id,
+               (SELECT COUNT(*) FROM posts p WHERE p.user_id = u.id AND p.deleted = false),
+               (SELECT COALESCE(SUM(ps.like_count), 0)
+                FROM posts p
+                JOIN post_statuses ps ON ps.post_id = p.id
+                WHERE p.user_id = u.id AND p.deleted = false)
+        FROM users u
+        WHERE NOT EXISTS (SELECT 1 FROM user_statuses us WHERE us.user_id = u.id)
+    """, nativeQuery = true)
+    int backfillMissing();
+}
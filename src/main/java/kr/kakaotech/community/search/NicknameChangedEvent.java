@@ -0,0 +1,11 @@
+package kr.kakaotech.community.search;
+
+import java.util.UUID;
+
+/**
+ * 활성 닉네임 변경 (가입, 닉네임 변경, 탈퇴) - 커밋 후 로컬 반영과 노드 간 전달에 사용
+ *
+ * 가입이면 before 가, 탈퇴면 after 가 null 입니다.
+ */
+public record NicknameChangedEvent(UUID userId, String before, String after) {
+}
@@ -0,0 +1,138 @@
+package kr.kakaotech.community.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.kakaotech.community.availability.UserInfoKey;
+import kr.kakaotech.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 회원 닉네임 prefix 검색 (@멘션, 작성자 검색 자동완성)
+ *
+ * - 불변 trie 를 AtomicReference 로 들고 있고, 변경은 새 trie 를 만들어 CAS 로 교체합니다.
+ *   검색은 락이나 DB 조회 없이 현재 trie 만 탐색합니다.
+ * - 시작할 때와 주기적으로 탈퇴하지 않은 회원을 id 순서로 읽어 다시 만듭니다.
+ * - 다른 노드의 변경은 relay(pub/sub) 로 받고, 놓친 메시지는 재구성으로 맞춥니다.
+ * - 검색은 대소문자를 구분하지 않습니다.
+ */
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private final UserRepository userRepository;
+
+    private final AtomicReference<NicknameTrie> trie = new AtomicReference<>(NicknameTrie.EMPTY);
+    // 재구성 중에 들어온 변경도 새 trie 에 넣기 위함
+    private volatile AtomicReference<NicknameTrie> building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private final int chunkSize;
+
+    public NicknameIndex(UserRepository userRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-search.chunk-size:5000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("user_search.index.entries", trie, ref -> ref.get().size()).register(meterRegistry);
+        Gauge.builder("user_search.index.estimated_bytes", trie, ref -> ref.get().estimatedBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * prefix 로 시작하는 활성 닉네임 사전 순 최대 limit 개
+     */
+    public List<NicknameMatch> search(String prefix, int limit) {
+        return trie.get().search(key(prefix), limit);
+    }
+
+    /**
+     * 커밋된 뒤에 로컬 trie 에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(NicknameChangedEvent event) {
+        apply(event.userId(), event.before(), event.after());
+    }
+
+    /**
+     * 이 노드 또는 다른 노드의 변경 반영
+     */
+    public void apply(UUID userId, String before, String after) {
+        AtomicReference<NicknameTrie> next = building;
+        update(trie, userId, before, after);
+        if (next != null) {
+            update(next, userId, before, after);
+        }
+    }
+
+    /**
+     * trie 재구성
+     *
+     * 이미 실행 중이면 -1 을 반환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user-search.rebuild-ms:3600000}", initialDelayString = "${user-search.rebuild-ms:3600000}")
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[NicknameIndex] 이미 재구성 중입니다.");
+            return -1;
+        }
+
+        try {
+            AtomicReference<NicknameTrie> next = new AtomicReference<>(NicknameTrie.EMPTY);
+            building = next;
+
+            UUID lastId = new UUID(0, 0);
+            List<UserInfoKey> chunk;
+            do {
+                chunk = userRepository.findActiveUserInfoKeysAfter(lastId, PageRequest.ofSize(chunkSize));
+                for (UserInfoKey row : chunk) {
+                    update(next, row.id(), null, row.nickname());
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == chunkSize);
+
+            NicknameTrie built = next.get();
+            trie.set(built);
+
+            log.info("[NicknameIndex] 재구성 entries={}, estimatedBytes={}", built.size(), built.estimatedBytes());
+            return built.size();
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private void update(AtomicReference<NicknameTrie> target, UUID userId, String before, String after) {
+        target.updateAndGet(current -> {
+            NicknameTrie updated = current;
+            if (before != null) {
+                updated = updated.without(key(before), userId);
+            }
+            if (after != null) {
+                updated = updated.with(key(after), new NicknameMatch(userId, after));
+            }
+            return updated;
+        });
+    }
+
+    private static String key(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
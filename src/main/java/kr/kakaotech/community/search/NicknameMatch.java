@@ -0,0 +1,9 @@
+package kr.kakaotech.community.search;
+
+import java.util.UUID;
+
+/**
+ * 닉네임 검색 결과 한 건
+ */
+public record NicknameMatch(UUID userId, String nickname) {
+}
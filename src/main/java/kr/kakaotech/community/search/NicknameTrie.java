@@ -0,0 +1,179 @@
+package kr.kakaotech.community.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 닉네임 prefix trie (불변)
+ *
+ * with / without 은 루트부터 바뀐 경로의 노드만 새로 만들고 나머지는 공유합니다. (path copying)
+ * 그래서 읽는 쪽은 락 없이 아무 시점의 trie 를 그대로 탐색할 수 있습니다.
+ * 자식은 정렬된 char 배열과 이진 탐색으로 찾습니다.
+ */
+final class NicknameTrie {
+
+    static final NicknameTrie EMPTY = new NicknameTrie(Node.EMPTY, 0, 1, 0);
+
+    // 객체 헤더, 필드, 배열 헤더를 포함한 대략적인 크기 (compressed oops 기준)
+    private static final long NODE_BYTES = 16 + 4 * 3 + 16 * 2;
+    private static final long CHILD_BYTES = 2 + 4;
+    private static final long ENTRY_BYTES = 16 + 4 * 2 + 32 + 40;
+
+    private final Node root;
+    private final int size;
+    private final int nodeCount;
+    private final long nicknameChars;
+
+    private NicknameTrie(Node root, int size, int nodeCount, long nicknameChars) {
+        this.root = root;
+        this.size = size;
+        this.nodeCount = nodeCount;
+        this.nicknameChars = nicknameChars;
+    }
+
+    NicknameTrie with(String key, NicknameMatch entry) {
+        NicknameMatch previous = find(key);
+        int[] created = new int[1];
+        Node newRoot = insert(root, key, 0, entry, created);
+        return new NicknameTrie(newRoot,
+                previous == null ? size + 1 : size,
+                nodeCount + created[0],
+                nicknameChars + entry.nickname().length() - (previous == null ? 0 : previous.nickname().length()));
+    }
+
+    NicknameTrie without(String key, UUID userId) {
+        NicknameMatch previous = find(key);
+        if (previous == null || !previous.userId().equals(userId)) {
+            return this;
+        }
+
+        int[] removed = new int[1];
+        Node newRoot = remove(root, key, 0, removed);
+        return new NicknameTrie(newRoot == null ? Node.EMPTY : newRoot,
+                size - 1,
+                nodeCount - removed[0] + (newRoot == null ? 1 : 0),
+                nicknameChars - previous.nickname().length());
+    }
+
+    /**
+     * prefix 로 시작하는 닉네임을 사전 순으로 최대 limit 개
+     */
+    List<NicknameMatch> search(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+
+        List<NicknameMatch> result = new ArrayList<>(Math.min(limit, 16));
+        if (node != null) {
+            collect(node, limit, result);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long estimatedBytes() {
+        // 루트를 뺀 모든 노드는 부모의 자식 칸 하나를 차지합니다.
+        return nodeCount * NODE_BYTES + (nodeCount - 1) * CHILD_BYTES + size * ENTRY_BYTES + nicknameChars * 2;
+    }
+
+    private NicknameMatch find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node == null ? null : node.entry;
+    }
+
+    private static Node insert(Node node, String key, int depth, NicknameMatch entry, int[] created) {
+        if (depth == key.length()) {
+            return new Node(node.keys, node.children, entry);
+        }
+
+        char c = key.charAt(depth);
+        int index = Arrays.binarySearch(node.keys, c);
+        if (index >= 0) {
+            Node[] children = node.children.clone();
+            children[index] = insert(children[index], key, depth + 1, entry, created);
+            return new Node(node.keys, children, node.entry);
+        }
+
+        created[0] += key.length() - depth;
+        int at = -index - 1;
+        char[] keys = new char[node.keys.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.keys, 0, keys, 0, at);
+        System.arraycopy(node.children, 0, children, 0, at);
+        keys[at] = c;
+        children[at] = insert(Node.EMPTY, key, depth + 1, entry, new int[1]);
+        System.arraycopy(node.keys, at, keys, at + 1, node.keys.length - at);
+        System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+        return new Node(keys, children, node.entry);
+    }
+
+    /**
+     * 비게 된 노드는 null 을 반환해 부모에서 잘라냅니다.
+     */
+    private static Node remove(Node node, String key, int depth, int[] removed) {
+        if (depth == key.length()) {
+            if (node.keys.length == 0) {
+                removed[0]++;
+                return null;
+            }
+            return new Node(node.keys, node.children, null);
+        }
+
+        int index = Arrays.binarySearch(node.keys, key.charAt(depth));
+        Node child = remove(node.children[index], key, depth + 1, removed);
+        if (child != null) {
+            Node[] children = node.children.clone();
+            children[index] = child;
+            return new Node(node.keys, children, node.entry);
+        }
+
+        if (node.keys.length == 1 && node.entry == null) {
+            removed[0]++;
+            return null;
+        }
+        char[] keys = new char[node.keys.length - 1];
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.keys, 0, keys, 0, index);
+        System.arraycopy(node.children, 0, children, 0, index);
+        System.arraycopy(node.keys, index + 1, keys, index, node.keys.length - index - 1);
+        System.arraycopy(node.children, index + 1, children, index, node.children.length - index - 1);
+        return new Node(keys, children, node.entry);
+    }
+
+    private static void collect(Node node, int limit, List<NicknameMatch> result) {
+        if (node.entry != null) {
+            result.add(node.entry);
+        }
+        for (int i = 0; i < node.children.length && result.size() < limit; i++) {
+            collect(node.children[i], limit, result);
+        }
+    }
+
+    private static final class Node {
+        static final Node EMPTY = new Node(new char[0], new Node[0], null);
+
+        final char[] keys;
+        final Node[] children;
+        final NicknameMatch entry;
+
+        Node(char[] keys, Node[] children, NicknameMatch entry) {
+            this.keys = keys;
+            this.children = children;
+            this.entry = entry;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package kr.kakaotech.community.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 다중 노드용 - 닉네임 변경을 Redis pub/sub 으로 모든 노드에 전달합니다.
+ *
+ * 메시지는 "userId\nbefore\nafter" 형식이고 없는 값은 빈 문자열입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-info.relay", havingValue = "redis")
+public class RedisNicknameRelay implements MessageListener {
+
+    private static final String CHANNEL = "user-search:nickname";
+
+    private final NicknameIndex nicknameIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisNicknameRelay(NicknameIndex nicknameIndex, StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer userInfoListenerContainer) {
+        this.nicknameIndex = nicknameIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        userInfoListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(NicknameChangedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, event.userId() + "\n"
+                    + (event.before() == null ? "" : event.before()) + "\n"
+                    + (event.after() == null ? "" : event.after()));
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 DB 에서 읽어옴
+            log.warn("[RedisNicknameRelay] 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", -1);
+            nicknameIndex.apply(UUID.fromString(parts[0]),
+                    parts[1].isEmpty() ? null : parts[1],
+                    parts[2].isEmpty() ? null : parts[2]);
+        } catch (Exception e) {
+            log.error("[RedisNicknameRelay] 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.kakaotech.community.service;
+
+import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.dto.response.LikeResponse;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.repository.CommentLikeRepository;
+import kr.kakaotech.community.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CommentLikeService {
+
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 댓글 좋아요 토글
+     *
+     * 삭제/추가 모두 영향받은 row 수로 판단하기 때문에
+     * 같은 요청이 동시에 두 번 들어와도 카운터가 한 번만 바뀝니다.
+     */
+    @Transactional
+    public LikeResponse toggleLike(UUID userId, int commentId) {
+        if (commentRepository.findLikeCountById(commentId).isEmpty()) {
+            throw new CustomException(ErrorCode.NOT_FOUND_COMMENT);
+        }
+
+        // 좋아요 취소
+        if (commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) > 0) {
+            commentRepository.decrementLikeCount(commentId);
+            return new LikeResponse(false, getLikeCount(commentId));
+        }
+
+        // 좋아요 등록 - unique(user_id, comment_id) 로 중복 방지
+        if (commentLikeRepository.insertIgnore(userId, commentId) > 0) {
+            commentRepository.incrementLikeCount(commentId);
+        }
+
+        return new LikeResponse(true, getLikeCount(commentId));
+    }
+
+    /**
+     * 댓글 페이지에 내 좋아요 여부 채우기
+     *
+     * commentLikes 컬렉션을 댓글마다 로딩하지 않고 IN 조회 한 번으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public void fillLikedByMe(UUID userId, List<CommentResponse> comments) {
+        if (userId == null || comments.isEmpty()) {
+            return;
+        }
+
+        List<Integer> commentIds = comments.stream().map(CommentResponse::getId).toList();
+        Set<Integer> likedIds = new HashSet<>(commentLikeRepository.findLikedCommentIds(userId, commentIds));
+
+        comments.forEach(comment -> comment.updateLiked(likedIds.contains(comment.getId())));
+    }
+
+    private int getLikeCount(int commentId) {
+        return commentRepository.findLikeCountById(commentId).orElse(0);
+    }
+}
@@ -7,62 +7,161 @@ import kr.kakaotech.community.entity.Post;
 import kr.kakaotech.community.entity.User;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
 import kr.kakaotech.community.repository.CommentRepository;
 import kr.kakaotech.community.repository.PostRepository;
 import kr.kakaotech.community.repository.PostStatusRepository;
 import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.sse.PostActivityEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class CommentService {
 
+    static final int MAX_PAGE_SIZE = 2000;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostStatusRepository postStatusRepository;
+    private final CommentLikeService commentLikeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${comment-thread.backfill-enabled:true}")
+    private boolean threadPathBackfillEnabled;
 
     /**
      * 댓글 등록
      */
     @Transactional
-    public void registerComment(String userId, int postId, CommentRequest request) {
-        User user = userRepository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+    public void registerComment(CustomUserDetails loginUser, int postId, CommentRequest request) {
+        User user = getAuthorReference(loginUser);
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_POST));
 
         Comment comment = new Comment(request.getContent(), user, post);
         commentRepository.save(comment);
+        comment.assignPath(null);
+
+        postStatusRepository.incrementCommentCount(postId);
+        eventPublisher.publishEvent(PostActivityEvent.commentAdded(postId,
+                CommentResponse.fromEntity(comment, loginUser.getUserId(), loginUser.getNickname())));
+    }
+
+    /**
+     * 답글 등록
+     *
+     * 루트 댓글의 reply_count 를 먼저 올리고 그 값을 답글 순번으로 사용합니다.
+     * UPDATE 로 루트 row 에 락이 걸리므로 동시에 달린 답글도 순번이 겹치지 않습니다.
+     */
+    @Transactional
+    public void registerReply(CustomUserDetails loginUser, int parentId, CommentRequest request) {
+        Comment parent = commentRepository.findById(parentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_COMMENT));
+
+        if (parent.getDeleted()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST_COMMENT);
+        }
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new CustomException(ErrorCode.REPLY_DEPTH_EXCEEDED);
+        }
 
+        User user = getAuthorReference(loginUser);
+
+        commentRepository.incrementReplyCount(parent.getRootId());
+        int replySeq = commentRepository.findReplyCountById(parent.getRootId());
+
+        Comment reply = Comment.reply(request.getContent(), user, parent, replySeq);
+        commentRepository.save(reply);
+        reply.assignPath(parent.getPath());
+
+        int postId = parent.getPost().getId();
         postStatusRepository.incrementCommentCount(postId);
+        eventPublisher.publishEvent(PostActivityEvent.commentAdded(postId,
+                CommentResponse.fromEntity(reply, loginUser.getUserId(), loginUser.getNickname())));
     }
 
     /**
-     * 게시글별 댓글 목록 조회
+     * 게시글별 댓글 목록 조회 (최상위 댓글)
+     *
+     * 로그인 사용자라면 내 좋아요 여부를 함께 채웁니다.
      */
     @Transactional(readOnly = true)
-    public Page<CommentResponse> getCommentList(int postId, Pageable pageable) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_POST));
+    public Page<CommentResponse> getCommentList(int postId, UUID userId, Pageable pageable) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_POST);
+        }
+
+        Page<CommentResponse> commentPage = commentRepository.findCommentResponseByPostId(postId, pageable);
+        fillLikedByMe(userId, commentPage.getContent());
+
+        return commentPage;
+    }
+
+    /**
+     * 스레드 전체 조회
+     *
+     * 답글 id 로 요청해도 해당 루트의 스레드 전체를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getThread(int commentId, UUID userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_COMMENT));
 
-        Page<Comment> commentPage = commentRepository.findByPost(post, pageable);
+        List<CommentResponse> thread = commentRepository.findThreadByRootId(comment.getRootId());
+        fillLikedByMe(userId, thread);
 
-        return commentPage.map(CommentResponse::fromEntity);
+        return thread;
+    }
+
+    /**
+     * 최상위 댓글 rootSize 개와 각 스레드의 앞쪽 답글 replyLimit 개를 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getThreadList(int postId, UUID userId, int page, int rootSize, int replyLimit) {
+        if (page < 0 || rootSize <= 0 || replyLimit <= 0) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+        // Pageable 리졸버와 같은 상한으로 자릅니다.
+        int size = Math.min(rootSize, MAX_PAGE_SIZE);
+        int replies = Math.min(replyLimit, MAX_PAGE_SIZE);
+        int offset;
+        try {
+            offset = Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST);
+        }
+
+        List<CommentResponse> threads = commentRepository.findThreadsByPostId(postId, offset, size, replies);
+        // 결과가 없을 때만 게시글 존재를 확인해서 일반적인 경우는 쿼리 한 번으로 끝냅니다.
+        if (threads.isEmpty() && !postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_POST);
+        }
+        fillLikedByMe(userId, threads);
+
+        return threads;
     }
 
     /**
      * 댓글 수정
      */
     @Transactional
-    public void updateComment(String userId, int commentId, CommentRequest request) {
+    public void updateComment(UUID userId, int commentId, CommentRequest request) {
         Comment comment = validateComment(userId, commentId);
 
         comment.update(request.getContent());
@@ -70,12 +169,52 @@ public class CommentService {
 
     /**
      * 댓글 삭제
+     *
+     * soft delete 이므로 답글이 있는 댓글도 스레드에는 "삭제된 댓글" 로 남습니다.
      */
     @Transactional
-    public void deleteComment(String userId, int commentId) {
+    public void deleteComment(UUID userId, int commentId) {
         Comment comment = validateComment(userId, commentId);
 
         comment.delete();
+        int postId = comment.getPost().getId();
+        postStatusRepository.decrementCommentCount(postId);
+        eventPublisher.publishEvent(PostActivityEvent.counterChanged(postId));
+    }
+
+    /**
+     * 답글 기능 이전 댓글들의 root_id, path 채우기
+     * backfill-enabled 가 false 인 노드(피드 등)는 실행하지 않습니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThreadPath() {
+        if (!threadPathBackfillEnabled) {
+            return;
+        }
+        int updated = commentRepository.backfillRootPath();
+        if (updated > 0) {
+            log.info("[CommentService] root_id, path backfill : {}", updated);
+        }
+    }
+
+    private void fillLikedByMe(UUID userId, List<CommentResponse> comments) {
+        if (userId != null) {
+            commentLikeService.fillLikedByMe(userId, comments);
+        }
+    }
+
+    /**
+     * 작성자 참조
+     *
+     * 인증 단계에서 사용자를 확인했으므로 SELECT 없이 프록시만 사용합니다.
+     * 탈퇴했거나 row 가 없는 회원은 기존과 같이 NOT_FOUND_USER 로 처리합니다.
+     */
+    private User getAuthorReference(CustomUserDetails loginUser) {
+        if (loginUser.isDeleted()) {
+            throw new CustomException(ErrorCode.NOT_FOUND_USER);
+        }
+        return userRepository.getReferenceById(loginUser.getUserId());
     }
 
     /**
@@ -85,11 +224,11 @@ public class CommentService {
      * @param commentId
      * @return
      */
-    private Comment validateComment(String userId, int commentId) {
+    private Comment validateComment(UUID userId, int commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_COMMENT));
 
-        if (!comment.getUser().getId().toString().equals(userId)) {
+        if (!comment.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
 
@@ -100,4 +239,3 @@ public class CommentService {
         return comment;
     }
 }
-
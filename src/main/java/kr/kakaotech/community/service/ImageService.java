@@ -24,6 +24,9 @@ import java.util.Random;
 @Service
 public class ImageService {
 
+    // images 의 1 ~ 8 번은 기본 프로필 이미지
+    public static final int DEFAULT_IMAGE_COUNT = 8;
+
     private final ImageManager imageManager;
     private final ImageRepository imageRepository;
     private final PostImageRepository postImageRepository;
@@ -120,7 +123,7 @@ public class ImageService {
      * 기본 이미지 랜덤 제공
      */
     public Image getDefaultImage() {
-        int randomId = new Random().nextInt(8) + 1;
+        int randomId = new Random().nextInt(DEFAULT_IMAGE_COUNT) + 1;
         return imageRepository.findById(randomId).orElse(null);
     }
 
@@ -6,18 +6,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.kakaotech.community.dto.request.UserLoginRequest;
 import kr.kakaotech.community.dto.response.UserLoginResponse;
-import kr.kakaotech.community.entity.RefreshToken;
-import kr.kakaotech.community.entity.RefreshTokenRepository;
 import kr.kakaotech.community.entity.User;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.PasswordHasher;
 import kr.kakaotech.community.auth.jwt.JwtProvider;
+import kr.kakaotech.community.auth.jwt.RefreshTokenStore;
+import kr.kakaotech.community.auth.jwt.TokenRevocationRegistry;
 import kr.kakaotech.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.NonUniqueResultException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,15 +25,17 @@ import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "auth.type", havingValue = "jwt")
 @Service
 public class JWTAuthService implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Value("${jwt.expirationtime.accessTtl}")
     private int accessTtl;
@@ -55,11 +57,9 @@ public class JWTAuthService implements AuthService {
         if (!checkPassword(password, user)) {
             throw new CustomException(ErrorCode.BAD_PASSWORD);
         }
+        upgradePasswordHash(password, user);
 
-        // 기존 리프레시 토큰 무효화
-        refreshTokenRepository.deleteByUserId(user.getId());
-
-        // 토큰 발급 및 저장
+        // 토큰 발급 및 저장 (기존 리프레시 토큰은 교체됨)
         TokenResponse tokenResponse = generateAndSaveToken(user);
         setCookie(response, tokenResponse);
 
@@ -73,7 +73,7 @@ public class JWTAuthService implements AuthService {
      * 로그아웃
      *
      * 쿠키 maxAge 0으로 설정
-     * DB에서 삭제
+     * refresh 토큰 삭제 + 이미 발급된 access 토큰 무효화
      */
     @Transactional
     @Override
@@ -87,15 +87,14 @@ public class JWTAuthService implements AuthService {
         Claims refreshClaims = jwtProvider.parseToken(refreshToken);
         String userId = refreshClaims.getSubject();
 
-        refreshTokenRepository.deleteByUserId(UUID.fromString(userId));
+        tokenRevocationRegistry.revoke(UUID.fromString(userId));
     }
 
     /**
      * ACCESS_TOKEN 갱신
      *
      * refreshToken 만료확인
-     * DB에 있는지 확인
-     * ACCESS_TOKEN & refreshToken 발급
+     * 저장된 토큰과 같을 때만 새 토큰으로 교체 (비교와 교체를 저장소에서 한 번에 처리)
      * Cookie 생성
      */
     @Transactional
@@ -105,21 +104,19 @@ public class JWTAuthService implements AuthService {
 
         // RefreshToken 검증 및 만료확인
         Claims refreshClaims = jwtProvider.parseToken(refreshToken);
-        String userId = refreshClaims.getSubject();
+        UUID userId = UUID.fromString(refreshClaims.getSubject());
+
+        User user = userRepository.findById(userId).orElseThrow(() ->
+                new CustomException(ErrorCode.INVALID_TOKEN));
+        TokenResponse tokenResponse = generateToken(user);
 
-        // DB 검증
-        RefreshToken token = getRefreshToken(userId);
-        String refreshTokenFromDB = token.getToken();
-        if (refreshTokenFromDB == null || !refreshTokenFromDB.equals(refreshToken)) {
+        // 저장소 검증 및 교체 - 이미 교체됐거나 로그아웃된 토큰이면 실패
+        if (!refreshTokenStore.rotate(userId, refreshToken, tokenResponse.refreshToken())) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 해당 유저에 대한 모든 토큰 삭제
-        refreshTokenRepository.deleteByUserId(UUID.fromString(userId));
-
-        // 쿠키 재발급(Access + Refresh, Refresh DB 등록)
-        User user = userRepository.findById(UUID.fromString(userId)).get();
-        setCookie(response, generateAndSaveToken(user));
+        // 쿠키 재발급(Access + Refresh)
+        setCookie(response, tokenResponse);
     }
 
     private String extractedRefreshToken(HttpServletRequest request) {
@@ -131,34 +128,43 @@ public class JWTAuthService implements AuthService {
                         new CustomException(ErrorCode.INVALID_TOKEN));
     }
 
-    private RefreshToken getRefreshToken(String userId) {
-        try {
-            Optional<RefreshToken> findToken = refreshTokenRepository.findByUserId(UUID.fromString(userId));
-            return findToken.orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
-        } catch (NonUniqueResultException e) {
-            // 중복 데이터 발견 시 모두 삭제하고 재인증 요구
-            refreshTokenRepository.deleteByUserId(UUID.fromString(userId));
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
-    }
-
     private void setCookie(HttpServletResponse response, TokenResponse tokenResponse) {
         addTokenCookie(response, ACCESS_TOKEN, tokenResponse.accessToken, accessTtl);
         addTokenCookie(response, REFRESH_TOKEN, tokenResponse.refreshToken, refreshTtl);
     }
 
     private boolean checkPassword(String password, User user) {
-        return passwordEncoder.matches(password, user.getPassword());
+        return passwordHasher.matches(password, user.getPassword());
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 로그인에 성공한 비밀번호로 다시 해시
+     * 해시 실행기가 바쁘면 다음 로그인으로 미룹니다.
+     */
+    private void upgradePasswordHash(String password, User user) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.updatePassword(passwordHasher.encode(password));
+        } catch (CustomException e) {
+            log.info("[{}] 비밀번호 해시 갱신 보류 : {}", getClass().getSimpleName(), e.getErrorCode());
+        }
     }
 
     public TokenResponse generateAndSaveToken(User user) {
+        TokenResponse tokenResponse = generateToken(user);
+
+        // Refresh 토큰만 저장
+        refreshTokenStore.save(user.getId(), tokenResponse.refreshToken());
+
+        return tokenResponse;
+    }
+
+    private TokenResponse generateToken(User user) {
         String accessToken = jwtProvider.createAccess(user.getId().toString(), user.getRole().toString());
         String refreshToken = jwtProvider.createRefresh(user.getId().toString(), user.getRole().toString());
 
-        // Refresh 토큰만 DB 저장
-        RefreshToken refreshTokenEntity = new RefreshToken(user.getId(), refreshToken, refreshTtl);
-        refreshTokenRepository.save(refreshTokenEntity);
-
         return new TokenResponse(accessToken, refreshToken);
     }
 
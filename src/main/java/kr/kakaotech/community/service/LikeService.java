@@ -10,8 +10,11 @@ import kr.kakaotech.community.repository.LikeRepository;
 import kr.kakaotech.community.repository.PostRepository;
 import kr.kakaotech.community.repository.PostStatusRepository;
 import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import kr.kakaotech.community.sse.PostActivityEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,8 @@ public class LikeService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostStatusRepository postStatusRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LikeResponse toggleLike(UUID userId, int postId) {
@@ -37,6 +42,8 @@ public class LikeService {
         if (optionalPostLike.isPresent()) {
             likeRepository.delete(optionalPostLike.get());
             postStatusRepository.decrementLikeCount(postId);
+            userStatusRepository.addReceivedLikeCount(postId, -1);
+            eventPublisher.publishEvent(PostActivityEvent.counterChanged(postId));
 
             return new LikeResponse(false, getLikeCount(postId));
         }
@@ -52,6 +59,8 @@ public class LikeService {
             likeRepository.save(newLike);
 
             postStatusRepository.incrementLikeCount(postId);
+            userStatusRepository.addReceivedLikeCount(postId, 1);
+            eventPublisher.publishEvent(PostActivityEvent.counterChanged(postId));
 
             return new LikeResponse(true, getLikeCount(postId));
 
@@ -65,10 +74,9 @@ public class LikeService {
     /**
      * 좋아요 상태 가져오기
      */
-    public boolean getLikeStatus(Optional<Object> optionalUserId, int postId) {
-        if (optionalUserId.isEmpty()) return false;
+    public boolean getLikeStatus(UUID userId, int postId) {
+        if (userId == null) return false;
 
-        UUID userId = UUID.fromString(optionalUserId.get().toString());
         return likeRepository.findByUser_IdAndPost_Id(userId, postId).isPresent();
     }
 
@@ -6,9 +6,12 @@ import kr.kakaotech.community.dto.response.*;
 import kr.kakaotech.community.entity.*;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.UserProfile;
 import kr.kakaotech.community.repository.PostRepository;
 import kr.kakaotech.community.repository.PostStatusRepository;
 import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +32,7 @@ public class PostService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostStatusRepository postStatusRepository;
+    private final UserStatusRepository userStatusRepository;
     private final ImageService imageService;
 
     private final int IMAGE_LIMIT_COUNT = 5;
@@ -38,25 +42,33 @@ public class PostService {
      * Post 등록
      */
     @Transactional
-    public int registerPost(String userId, PostRegisterRequest request, List<MultipartFile> images) {
+    public int registerPost(CustomUserDetails loginUser, PostRegisterRequest request, List<MultipartFile> images) {
         if (images != null && images.size() > IMAGE_LIMIT_COUNT) {
             throw new CustomException(ErrorCode.IMAGE_TOO_MANY);
         }
 
-        User getUser = userRepository.findById(UUID.fromString(userId)).orElseThrow(() ->
-                new CustomException(ErrorCode.NOT_FOUND_USER));
+        // 글에 복사해 둘 닉네임, 프로필 이미지는 캐시(최대 ttl 만큼 지난 값)가 아니라 users 에서 바로 읽습니다.
+        // 탈퇴(또는 삭제)한 회원은 글을 쓸 수 없습니다.
+        UserProfile profile = userRepository.findProfileById(loginUser.getUserId()).orElse(UserProfile.EMPTY);
+        if (profile.deleted()) {
+            throw new CustomException(ErrorCode.NOT_FOUND_USER);
+        }
+        User getUser = userRepository.getReferenceById(loginUser.getUserId());
+
+        Post post = Post.toEntity(request, getUser, profile.nickname(), profile.imageUrl());
 
-        Post post = Post.toEntity(request, getUser);
+        // id 는 sequence 에서 미리 받으므로 insert 는 커밋 시점에 테이블별로 묶여서 나갑니다.
+        Post savedPost = postRepository.save(post);
+        log.info("=== postId: " + savedPost.getId());
 
         // 이미지 저장
         if (images != null && !images.isEmpty()) {
-            post.saveImage(imageService.saveImage(images, post));
+            savedPost.saveImage(imageService.saveImage(images, savedPost));
         }
 
-        Post savedPost = postRepository.saveAndFlush(post);
-        log.info("=== postId: " + savedPost.getId());
         PostStatus status = new PostStatus(savedPost);
         postStatusRepository.save(status);
+        userStatusRepository.incrementPostCount(loginUser.getUserId());
 
         return savedPost.getId();
     }
@@ -65,11 +77,11 @@ public class PostService {
      * 게시글 내용 수정
      */
     @Transactional
-    public void updatePost(int postId, String userId, PostModifyRequest request, List<MultipartFile> images) {
+    public void updatePost(int postId, UUID userId, PostModifyRequest request, List<MultipartFile> images) {
         Post post = postRepository.findById(postId).orElseThrow(() ->
                 new CustomException(ErrorCode.NOT_FOUND_POST));
 
-        if (!post.getUser().getId().toString().equals(userId)) {
+        if (!post.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
         if (post.getPostImages() != null && images != null && post.getPostImages().size() + images.size() > IMAGE_LIMIT_COUNT) {
@@ -96,7 +108,7 @@ public class PostService {
     /**
      * 인덱스용 이미지 포함 게시글 목록 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostSummaryWithImageResponse> getPostListWithImage(int size) {
         Pageable pageable = PageRequest.of(0, size);
 
@@ -108,7 +120,7 @@ public class PostService {
     /**
      * 게시글 목록 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostListResponse getPostList(Integer cursor, int size) {
         Pageable pageable = PageRequest.of(0, size);
         List<PostSummaryResponse> postList;
@@ -125,6 +137,7 @@ public class PostService {
     /**
      * 기간에 따른 인기글 목록 메서드
      */
+    @Transactional(readOnly = true)
     public PostListResponse getLikePostList(Integer cursor, String period, int size) {
         LocalDateTime startDate = switch (period) {
             case "daily" -> LocalDateTime.now().minusDays(1);
@@ -143,6 +156,7 @@ public class PostService {
     /**
      * nickname에 따른 검색
      */
+    @Transactional(readOnly = true)
     public PostListResponse getNicknamePostList(Integer cursor, String nickname, int size) {
         List<PostSummaryResponse> postList = postRepository.findPostByNickname(
                 nickname,
@@ -152,19 +166,47 @@ public class PostService {
         return getPostListAndNextCursorResponse(size, postList);
     }
 
+    /**
+     * 작성자 피드 - 바뀔 수 있는 닉네임 대신 userId 로 찾고 id 커서로 이어서 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getAuthorPostList(UUID userId, Integer cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        List<PostSummaryResponse> postList;
+
+        if (cursor == null) {
+            postList = postRepository.findAuthorPost(userId, pageable);
+        } else {
+            postList = postRepository.findAuthorPostByCursor(userId, cursor, pageable);
+        }
+
+        return getPostListAndNextCursorResponse(size, postList);
+    }
+
     /**
      * TOP 10 좋아요 순서 정렬
      */
+    @Transactional(readOnly = true)
     public PostListResponse getPostTop10List() {
         List<PostSummaryResponse> postList = postRepository.findTop10Post(PageRequest.of(0, 10));
 
         return getPostListAndNextCursorResponse(11, postList);
     }
 
+    /**
+     * 게시글 존재 확인 (실시간 구독 전)
+     */
+    @Transactional(readOnly = true)
+    public void validatePostExists(int postId) {
+        if (!postRepository.existsByIdAndDeletedFalse(postId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_POST);
+        }
+    }
+
     /**
      * 게시글 상세조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDetailResponse getPostDetails(int postId) {
         Post post = postRepository.findPostDetailsWithImages(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_POST));
@@ -183,7 +225,7 @@ public class PostService {
                 post.getCreatedAt(),
                 post.getUser().getId(),
                 post.getNickname(),
-                post.getUser().getImage().getUrl(),
+                post.getUser().getImage() != null ? post.getUser().getImage().getUrl() : null,
                 post.getType(),
                 images
         );
@@ -193,7 +235,7 @@ public class PostService {
      * 게시글 삭제
      */
     @Transactional
-    public void deletePost(int postId, String userId) {
+    public void deletePost(int postId, UUID userId) {
         Post post = postRepository.findById(postId).orElseThrow(() ->
                 new CustomException(ErrorCode.NOT_FOUND_POST));
 
@@ -202,6 +244,8 @@ public class PostService {
         }
 
         post.deletePost();
+        int likeCount = postStatusRepository.findById(postId).map(PostStatus::getLikeCount).orElse(0);
+        userStatusRepository.subtractPost(post.getUser().getId(), likeCount);
     }
 
     /**
@@ -6,8 +6,10 @@ import kr.kakaotech.community.entity.PostStatus;
 import kr.kakaotech.community.entity.PostType;
 import kr.kakaotech.community.repository.PostRepository;
 import kr.kakaotech.community.repository.PostStatusRepository;
+import kr.kakaotech.community.sse.PostActivityEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,13 +20,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostStatusService {
     private final PostStatusRepository postStatusRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // TODO: 조회수 해결해보기.
     @Transactional
     public void incrementViewCountRDB(int postId) {
         postStatusRepository.incrementViewCount(postId);
+        eventPublisher.publishEvent(PostActivityEvent.counterChanged(postId));
     }
 
+    @Transactional(readOnly = true)
     public PostTypeCountResponse getPostTypeCount(String type) {
         return new PostTypeCountResponse(postRepository.countByDeletedFalseAndType(PostType.valueOf(type.toUpperCase())));
     }
@@ -34,6 +39,7 @@ public class PostStatusService {
      *
      * 다른 통계정보는 각자 들고오기 때문에 임시 삭제
      */
+    @Transactional(readOnly = true)
     public PostStatusResponse getPostStatus(int postId) {
         return new PostStatusResponse(postStatusRepository.findById(postId).map(PostStatus::getViewCount).orElse(0));
     }
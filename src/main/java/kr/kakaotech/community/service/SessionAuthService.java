@@ -4,17 +4,19 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.kakaotech.community.auth.session.SessionDao;
+import kr.kakaotech.community.auth.session.SessionNearCache;
 import kr.kakaotech.community.dto.request.UserLoginRequest;
 import kr.kakaotech.community.dto.response.UserLoginResponse;
 import kr.kakaotech.community.entity.User;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.PasswordHasher;
 import kr.kakaotech.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,14 +26,16 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "auth.type", havingValue = "session")
 @Service
 public class SessionAuthService implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final PasswordHasher passwordHasher;
+    private final RedisTemplate<String, SessionDao> sessionRedisTemplate;
+    private final SessionNearCache sessionNearCache;
 
     @Value("${session.sessionTtl}")
     private int sessionTtl;
@@ -50,6 +54,7 @@ public class SessionAuthService implements AuthService {
         if (!checkPassword(password, user)) {
             throw new CustomException(ErrorCode.BAD_PASSWORD);
         }
+        upgradePasswordHash(password, user);
 
         // 세션 생성
         String sessionId = UUID.randomUUID().toString();
@@ -63,10 +68,11 @@ public class SessionAuthService implements AuthService {
 
         // 세션 저장
         addTokenCookie(response, Session_Cookie_Name, sessionId, sessionTtl);
-        redisTemplate.opsForValue().set(SESSION_PREFIX + sessionId, sessionDao, sessionTtl, TimeUnit.SECONDS);
+        sessionRedisTemplate.opsForValue().set(SESSION_PREFIX + sessionId, sessionDao, sessionTtl, TimeUnit.SECONDS);
 
 
-        return new UserLoginResponse(user.getNickname(), user.getEmail(), user.getId().toString(), user.getImage().getUrl());
+        return new UserLoginResponse(user.getNickname(), user.getEmail(), user.getId().toString(),
+                user.getImage() != null ? user.getImage().getUrl() : null);
     }
 
     @Override
@@ -75,7 +81,9 @@ public class SessionAuthService implements AuthService {
 
         String sessionId = extractedSessionId(request);
 
-        redisTemplate.delete(SESSION_PREFIX + sessionId);
+        sessionRedisTemplate.delete(SESSION_PREFIX + sessionId);
+        // 다른 노드의 near-cache 도 같이 비움
+        sessionNearCache.invalidate(sessionId);
     }
 
     @Override
@@ -83,7 +91,22 @@ public class SessionAuthService implements AuthService {
     }
 
     private boolean checkPassword(String password, User user) {
-        return passwordEncoder.matches(password, user.getPassword());
+        return passwordHasher.matches(password, user.getPassword());
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정과 다르면 로그인에 성공한 비밀번호로 다시 해시
+     * 해시 실행기가 바쁘면 다음 로그인으로 미룹니다.
+     */
+    private void upgradePasswordHash(String password, User user) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.updatePassword(passwordHasher.encode(password));
+        } catch (CustomException e) {
+            log.info("[{}] 비밀번호 해시 갱신 보류 : {}", getClass().getSimpleName(), e.getErrorCode());
+        }
     }
 
     public void addTokenCookie(HttpServletResponse response, String cookieName, String cookieValue, int maxAge) {
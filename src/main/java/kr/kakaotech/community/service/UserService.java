@@ -1,24 +1,43 @@
 package kr.kakaotech.community.service;
 
+import kr.kakaotech.community.auth.jwt.TokenRevocationRegistry;
+import kr.kakaotech.community.availability.UserInfoAvailability;
+import kr.kakaotech.community.availability.UserInfoTakenEvent;
 import kr.kakaotech.community.dto.request.UserPasswordRequest;
 import kr.kakaotech.community.dto.request.UserRegisterRequest;
 import kr.kakaotech.community.dto.request.UserUpdateRequest;
 import kr.kakaotech.community.dto.response.UserDetailResponse;
+import kr.kakaotech.community.dto.response.UserListResponse;
+import kr.kakaotech.community.dto.response.UserSearchResponse;
+import kr.kakaotech.community.dto.response.UserStatusResponse;
+import kr.kakaotech.community.dto.response.UserSummaryResponse;
 import kr.kakaotech.community.entity.Image;
 import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.entity.UserStatus;
 import kr.kakaotech.community.exception.CustomException;
 import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.PasswordHasher;
+import kr.kakaotech.community.job.AuthorChangedEvent;
 import kr.kakaotech.community.repository.ImageRepository;
+import kr.kakaotech.community.repository.TableRowEstimator;
 import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import kr.kakaotech.community.search.NicknameChangedEvent;
+import kr.kakaotech.community.search.NicknameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -28,10 +47,20 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserStatusRepository userStatusRepository;
+    private final PasswordHasher passwordHasher;
     private final ImageService imageService;
     private final String DEFAULT_IMAGE = "default";
     private final ImageRepository imageRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserInfoAvailability userInfoAvailability;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NicknameIndex nicknameIndex;
+    private final TableRowEstimator tableRowEstimator;
+    private final int SEARCH_MAX_SIZE = 20;
+
+    @Value("${user-status.backfill-enabled:true}")
+    private boolean userStatusBackfillEnabled;
 
     /**
      * 회원가입
@@ -51,7 +80,7 @@ public class UserService {
 
         User user = new User(
                 registerRequest.getEmail(),
-                passwordEncoder.encode(registerRequest.getPassword()),
+                passwordHasher.encode(registerRequest.getPassword()),
                 registerRequest.getNickname(),
                 registerRequest.getRole()
         );
@@ -65,6 +94,9 @@ public class UserService {
         }
 
         userRepository.save(user);
+        userStatusRepository.save(new UserStatus(user.getId()));
+        eventPublisher.publishEvent(new UserInfoTakenEvent(user.getEmail(), user.getNickname()));
+        eventPublisher.publishEvent(new NicknameChangedEvent(user.getId(), null, user.getNickname()));
     }
 
     /**
@@ -83,27 +115,75 @@ public class UserService {
                 getUser.getNickname(),
                 getUser.getDeleted(),
                 getUser.getRole().toString(),
-                getUser.getImage().getUrl()
+                getUser.getImage() != null ? getUser.getImage().getUrl() : null
         );
     }
 
+    /**
+     * 프로필 헤더용 작성자 통계 - 미리 유지한 카운터라 집계하지 않습니다.
+     */
+    public UserStatusResponse getUserStatus(UUID userId) {
+        UserStatus userStatus = userStatusRepository.findById(userId).orElseThrow(() ->
+                new CustomException(ErrorCode.NOT_FOUND_USER));
+
+        return new UserStatusResponse(userStatus.getPostCount(), userStatus.getReceivedLikeCount());
+    }
+
+    /**
+     * 작성자 통계 이전에 가입한 회원의 user_statuses 채우기
+     * backfill-enabled 가 false 인 노드(피드 등)는 실행하지 않습니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillUserStatus() {
+        if (!userStatusBackfillEnabled) {
+            return;
+        }
+        int inserted = userStatusRepository.backfillMissing();
+        if (inserted > 0) {
+            log.info("[UserService] user_statuses backfill : {}", inserted);
+        }
+    }
+
     /**
      * 관리자를 위한 모든 유저 불러오기
-     * Spring의 Pageable을 이용해 Pagination을 진행합니다.
+     * (createdAt, id) 기준 커서 페이징이고 이미지 URL 까지 쿼리 한 번으로 가져옵니다.
+     * 전체 수는 기본적으로 테이블 통계 추정치이고, exactCount 면 COUNT(*) 를 실행합니다.
      *
-     * @param pageable
-     * @return
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
      */
-    public Page<UserDetailResponse> getUserPage(Pageable pageable) {
-        Page<User> userPage = userRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public UserListResponse getUserList(String cursor, int size, boolean exactCount) {
+        Pageable pageable = PageRequest.ofSize(size);
+        List<UserSummaryResponse> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findUserSummaries(pageable);
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                users = userRepository.findUserSummariesByCursor(
+                        LocalDateTime.parse(cursor.substring(0, separator)),
+                        UUID.fromString(cursor.substring(separator + 1)),
+                        pageable);
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.BAD_REQUEST);
+            }
+        }
 
-        return userPage.map(getUser -> new UserDetailResponse(
-                getUser.getId().toString(),
-                getUser.getEmail(), getUser.getNickname(),
-                getUser.getDeleted(),
-                getUser.getRole().toString(),
-                getUser.getImage().getUrl()
-        ));
+        boolean hasNext = users.size() == size;
+        String nextCursor = null;
+        if (hasNext) {
+            UserSummaryResponse last = users.get(users.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getId();
+        }
+
+        long totalCount = exactCount ? -1 : tableRowEstimator.estimate("users");
+        boolean totalExact = totalCount < 0;
+        if (totalExact) {
+            totalCount = userRepository.count();
+        }
+
+        return new UserListResponse(users, nextCursor, hasNext, totalCount, totalExact);
     }
 
     /**
@@ -115,12 +195,22 @@ public class UserService {
         User getUser = userRepository.findById(UUID.fromString(userId)).orElseThrow(() ->
                 new CustomException(ErrorCode.NOT_FOUND_USER));
 
+        String beforeNickname = getUser.getNickname();
         getUser.updateUser(userUpdateRequest);
+        if (!getUser.getNickname().equals(beforeNickname)) {
+            eventPublisher.publishEvent(new UserInfoTakenEvent(null, getUser.getNickname()));
+            eventPublisher.publishEvent(new NicknameChangedEvent(getUser.getId(), beforeNickname, getUser.getNickname()));
+        }
 
-        if (image != null && !image.isEmpty()) {
+        boolean imageChanged = image != null && !image.isEmpty();
+        if (imageChanged) {
             Image imageEntity = imageService.saveImage(image);
             getUser.addImage(imageEntity);
         }
+        if (imageChanged || !getUser.getNickname().equals(beforeNickname)) {
+            eventPublisher.publishEvent(new AuthorChangedEvent(getUser.getId(), getUser.getNickname(),
+                    getUser.getImage() != null ? getUser.getImage().getUrl() : null));
+        }
 
         return new UserDetailResponse(
                 getUser.getId().toString(),
@@ -128,7 +218,7 @@ public class UserService {
                 getUser.getNickname(),
                 getUser.getDeleted(),
                 getUser.getRole().toString(),
-                getUser.getImage().getUrl()
+                getUser.getImage() != null ? getUser.getImage().getUrl() : null
 
         );
     }
@@ -153,11 +243,17 @@ public class UserService {
         String dbPassword = user.getPassword();
 
         // 비밀번호 에러보다는 정보를 알려주지않기 위해 실패했다는 false 만 반환
-        if (!passwordEncoder.matches(inputPassword, dbPassword)) {
+        if (!passwordHasher.matches(inputPassword, dbPassword)) {
             throw new CustomException(ErrorCode.BAD_PASSWORD);
         }
 
+        String beforeNickname = user.getNickname();
         user.deleteUser();
+        eventPublisher.publishEvent(new UserInfoTakenEvent(null, user.getNickname()));
+        eventPublisher.publishEvent(new NicknameChangedEvent(user.getId(), beforeNickname, null));
+        eventPublisher.publishEvent(new AuthorChangedEvent(user.getId(), user.getNickname(),
+                user.getImage() != null ? user.getImage().getUrl() : null));
+        tokenRevocationRegistry.revoke(user.getId());
     }
 
     /**
@@ -177,12 +273,26 @@ public class UserService {
 
     public boolean duplicateCheckUserInfo(String info, String userInput) {
         return switch (info) {
-            case "email" -> userRepository.existsByEmail(userInput);
-            case "nickname" -> userRepository.existsByNickname(userInput);
+            case UserInfoAvailability.EMAIL -> userInfoAvailability.isTaken(info, userInput, userRepository::existsByEmail);
+            case UserInfoAvailability.NICKNAME -> userInfoAvailability.isTaken(info, userInput, userRepository::existsByNickname);
             default -> false;
         };
     }
 
+    /**
+     * 닉네임 prefix 검색 (자동완성)
+     * 메모리 인덱스만 조회합니다.
+     */
+    public List<UserSearchResponse> searchUsers(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        return nicknameIndex.search(prefix, Math.min(Math.max(size, 1), SEARCH_MAX_SIZE)).stream()
+                .map(entry -> new UserSearchResponse(entry.userId().toString(), entry.nickname()))
+                .toList();
+    }
+
     @Transactional
     public boolean changePassword(String userId, UserPasswordRequest userPasswordRequest) {
         User user = userRepository.findById(UUID.fromString(userId)).orElseThrow(() ->
@@ -190,14 +300,18 @@ public class UserService {
 
         String dbPassword = user.getPassword();
         String currentPassword = userPasswordRequest.getCurrentPassword();
-        String enCodingNewPassword = passwordEncoder.encode(userPasswordRequest.getNewPassword());
 
         // 비밀번호 에러보다는 정보를 알려주지않기 위해 실패했다는 false 만 반환
-        if (!passwordEncoder.matches(currentPassword, dbPassword)) {
+        if (!passwordHasher.matches(currentPassword, dbPassword)) {
             throw new CustomException(ErrorCode.BAD_PASSWORD);
         }
 
+        // 현재 비밀번호가 맞을 때만 새 비밀번호 해시
+        String enCodingNewPassword = passwordHasher.encode(userPasswordRequest.getNewPassword());
+
         user.updatePassword(enCodingNewPassword);
+        // 이전 비밀번호로 받은 토큰 무효화
+        tokenRevocationRegistry.revoke(user.getId());
         return true;
     }
 
@@ -0,0 +1,26 @@
+package kr.kakaotech.community.sse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 단일 노드용 - 커밋된 이벤트를 바로 로컬 허브로 전달합니다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "sse.relay", havingValue = "local", matchIfMissing = true)
+public class LocalPostEventRelay {
+
+    private final PostEventHub postEventHub;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (event.comment() != null) {
+            postEventHub.publishComment(event.postId(), event.comment());
+        } else {
+            postEventHub.markCounterChanged(event.postId());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package kr.kakaotech.community.sse;
+
+import kr.kakaotech.community.dto.response.CommentResponse;
+
+/**
+ * 게시글 활동 이벤트
+ *
+ * comment 가 있으면 새 댓글, 없으면 카운터(좋아요, 조회수, 댓글수) 변경만 알립니다.
+ */
+public record PostActivityEvent(int postId, CommentResponse comment) {
+
+    public static PostActivityEvent commentAdded(int postId, CommentResponse comment) {
+        return new PostActivityEvent(postId, comment);
+    }
+
+    public static PostActivityEvent counterChanged(int postId) {
+        return new PostActivityEvent(postId, null);
+    }
+}
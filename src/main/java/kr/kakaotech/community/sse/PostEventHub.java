@@ -0,0 +1,200 @@
+package kr.kakaotech.community.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.dto.response.PostCounterResponse;
+import kr.kakaotech.community.repository.PostStatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 SSE 구독자에게 이벤트를 뿌려주는 로컬 허브
+ *
+ * - SseEmitter 는 비동기 응답이라 대기 중인 구독자는 스레드를 점유하지 않습니다.
+ * - 실제 전송은 구독자별 버퍼를 virtual thread 에서 비웁니다. 느린 구독자가 발행자를 막지 않습니다.
+ * - 카운터는 변경된 게시글만 모아두었다가 주기마다 한 번씩 조회해서 보냅니다.
+ */
+@Slf4j
+@Component
+public class PostEventHub {
+
+    private static final String COMMENT_EVENT = "comment";
+    private static final String COUNTER_EVENT = "counters";
+
+    private final PostStatusRepository postStatusRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Integer, Set<PostSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtyPosts = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedCounter;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMs;
+    @Value("${sse.buffer-size:32}")
+    private int bufferSize;
+
+    public PostEventHub(PostStatusRepository postStatusRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.postStatusRepository = postStatusRepository;
+        this.objectMapper = objectMapper;
+        this.droppedCounter = Counter.builder("sse.events.dropped").register(meterRegistry);
+        Gauge.builder("sse.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록
+     */
+    public SseEmitter subscribe(int postId) {
+        SseEmitter emitter = newEmitter();
+        PostSubscriber subscriber = new PostSubscriber(postId, emitter, bufferSize);
+
+        subscribers.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        // timeout 은 연결을 닫지 않으므로 직접 complete 해서 응답을 끝냅니다.
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 현재 카운터를 한 번 보내줍니다.
+        dirtyPosts.add(postId);
+        return emitter;
+    }
+
+    /**
+     * 새 댓글 전송 - JSON 은 한 번만 만들고 모든 구독자가 공유합니다.
+     */
+    public void publishComment(int postId, String commentJson) {
+        dirtyPosts.add(postId);
+        broadcast(postId, SseEmitter.event().name(COMMENT_EVENT).data(commentJson, MediaType.APPLICATION_JSON));
+    }
+
+    public void publishComment(int postId, CommentResponse comment) {
+        String json = toJson(comment);
+        if (json != null) {
+            publishComment(postId, json);
+        }
+    }
+
+    /**
+     * 카운터 변경 표시만 해두고 flushCounters 에서 모아서 보냅니다.
+     */
+    public void markCounterChanged(int postId) {
+        if (subscribers.containsKey(postId)) {
+            dirtyPosts.add(postId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sse.counter-flush-ms:1000}")
+    public void flushCounters() {
+        if (dirtyPosts.isEmpty()) {
+            return;
+        }
+
+        List<Integer> postIds = new ArrayList<>();
+        for (Integer postId : dirtyPosts) {
+            dirtyPosts.remove(postId);
+            if (subscribers.containsKey(postId)) {
+                postIds.add(postId);
+            }
+        }
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        for (PostCounterResponse counter : postStatusRepository.findCountersByPostIds(postIds)) {
+            String json = toJson(counter);
+            if (json != null) {
+                broadcast(counter.getPostId(), SseEmitter.event().name(COUNTER_EVENT).data(json, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    /**
+     * 프록시, 로드밸런서의 idle timeout 으로 끊기지 않도록 주석 이벤트를 보냅니다.
+     * 전송에 실패한 구독자는 여기서 정리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Integer postId : subscribers.keySet()) {
+            broadcast(postId, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void broadcast(int postId, SseEmitter.SseEventBuilder builder) {
+        Set<PostSubscriber> postSubscribers = subscribers.get(postId);
+        if (postSubscribers == null) {
+            return;
+        }
+
+        // SseEventBuilder.build() 는 호출할 때마다 내용이 바뀌므로 한 번만 만듭니다.
+        Set<ResponseBodyEmitter.DataWithMediaType> event = builder.build();
+        for (PostSubscriber subscriber : postSubscribers) {
+            if (subscriber.offer(event)) {
+                droppedCounter.increment();
+            }
+            if (subscriber.tryStartDrain()) {
+                sender.execute(() -> {
+                    if (!subscriber.drain()) {
+                        remove(subscriber);
+                    }
+                });
+            }
+        }
+    }
+
+    private void remove(PostSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getPostId(), (id, set) -> {
+            if (set.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("[PostEventHub] 직렬화 실패", e);
+            return null;
+        }
+    }
+}
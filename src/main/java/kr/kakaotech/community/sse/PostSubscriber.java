@@ -0,0 +1,104 @@
+package kr.kakaotech.community.sse;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SSE 구독자 한 명
+ *
+ * 버퍼가 가득 차면 가장 오래된 이벤트를 버립니다. (drop-oldest)
+ * 전송은 한 번에 하나의 drain 작업만 돌도록 draining 플래그로 막습니다.
+ * 이벤트는 미리 build 된 값을 받아 모든 구독자가 같은 객체를 공유합니다.
+ */
+class PostSubscriber {
+
+    @Getter
+    private final int postId;
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final ArrayDeque<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean draining;
+    private volatile boolean closed;
+
+    PostSubscriber(int postId, SseEmitter emitter, int bufferSize) {
+        this.postId = postId;
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+        this.buffer = new ArrayDeque<>(bufferSize);
+    }
+
+    /**
+     * 이벤트 적재
+     *
+     * @return 버린 이벤트가 있으면 true
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        lock.lock();
+        try {
+            boolean dropped = false;
+            if (buffer.size() >= bufferSize) {
+                buffer.pollFirst();
+                dropped = true;
+            }
+            buffer.addLast(event);
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * drain 작업을 새로 띄워야 하는지 확인하고 점유합니다.
+     */
+    boolean tryStartDrain() {
+        lock.lock();
+        try {
+            if (draining || buffer.isEmpty() || closed) {
+                return false;
+            }
+            draining = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 전송
+     *
+     * @return 전송 실패로 구독이 끊겼으면 false
+     */
+    boolean drain() {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            lock.lock();
+            try {
+                event = buffer.pollFirst();
+                if (event == null || closed) {
+                    draining = false;
+                    return !closed;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return false;
+            }
+        }
+    }
+
+    void close() {
+        closed = true;
+    }
+}
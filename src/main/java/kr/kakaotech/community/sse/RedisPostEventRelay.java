@@ -0,0 +1,112 @@
+package kr.kakaotech.community.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중 노드용 - Redis pub/sub 으로 모든 노드의 허브에 이벤트를 전달합니다.
+ *
+ * 댓글은 바로 발행하고, 카운터 변경은 post id 만 모아서 주기마다 한 메시지로 발행합니다.
+ * 조회수처럼 자주 바뀌는 카운터가 매 요청마다 PUBLISH 되지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.relay", havingValue = "redis")
+public class RedisPostEventRelay implements MessageListener {
+
+    private static final String CHANNEL = "sse:post-activity";
+
+    private final PostEventHub postEventHub;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Integer> pendingCounters = ConcurrentHashMap.newKeySet();
+
+    public RedisPostEventRelay(PostEventHub postEventHub, StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                               RedisMessageListenerContainer postEventListenerContainer) {
+        this.postEventHub = postEventHub;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        postEventListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        if (event.comment() == null) {
+            postEventHub.markCounterChanged(event.postId());
+            pendingCounters.add(event.postId());
+            return;
+        }
+
+        try {
+            String commentJson = objectMapper.writeValueAsString(event.comment());
+            postEventHub.publishComment(event.postId(), commentJson);
+            publish(new RelayMessage(nodeId, event.postId(), commentJson, null));
+        } catch (JsonProcessingException e) {
+            log.error("[RedisPostEventRelay] 직렬화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sse.counter-flush-ms:1000}")
+    public void flushPendingCounters() {
+        if (pendingCounters.isEmpty()) {
+            return;
+        }
+
+        List<Integer> postIds = new ArrayList<>();
+        for (Integer postId : pendingCounters) {
+            pendingCounters.remove(postId);
+            postIds.add(postId);
+        }
+        publish(new RelayMessage(nodeId, 0, null, postIds));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayMessage relayMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+            // 자기 노드 이벤트는 이미 로컬에 전달했으므로 무시
+            if (nodeId.equals(relayMessage.nodeId())) {
+                return;
+            }
+
+            if (relayMessage.comment() != null) {
+                postEventHub.publishComment(relayMessage.postId(), relayMessage.comment());
+            }
+            if (relayMessage.counterPostIds() != null) {
+                relayMessage.counterPostIds().forEach(postEventHub::markCounterChanged);
+            }
+        } catch (Exception e) {
+            log.error("[RedisPostEventRelay] 메시지 처리 실패", e);
+        }
+    }
+
+    private void publish(RelayMessage relayMessage) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayMessage));
+        } catch (Exception e) {
+            // Redis 장애 시에도 로컬 구독자에게는 이미 전달됨
+            log.warn("[RedisPostEventRelay] 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    record RelayMessage(String nodeId, int postId, String comment, List<Integer> counterPostIds) {
+    }
+}
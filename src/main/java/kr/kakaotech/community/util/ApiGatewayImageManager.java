@@ -11,6 +11,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.time.Duration;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,6 +26,10 @@ public class ApiGatewayImageManager implements ImageManager {
     @Value("${image.upload.post-url}")
     private String postUploadUrl;
 
+    // 게이트웨이가 느려도 요청 스레드가 무한정 묶이지 않도록 제한합니다.
+    @Value("${image.upload.timeout-ms:10000}")
+    private long timeoutMs;
+
     @Override
     public String uploadImage(MultipartFile image) {
         return uploadTo(image, profileUploadUrl);
@@ -52,7 +57,7 @@ public class ApiGatewayImageManager implements ImageManager {
                     .bodyValue(image.getBytes())                       // raw bytes
                     .retrieve()
                     .bodyToMono(ImageUploadResponse.class)
-                    .block();
+                    .block(Duration.ofMillis(timeoutMs));
 
             if (response == null || response.data == null || response.data.filePath == null) {
                 throw new CustomException(ErrorCode.SERVER_ERROR);
@@ -0,0 +1,106 @@
+package kr.kakaotech.community.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutePolicyTrieTest {
+
+    private static final List<String> EXCLUDED_PATHS = List.of(
+            "/api/auth", "/api/error", "/api/images", "/api/posts/top10", "/api/health",
+            "/api/uploads", "/api/posts/type", "/api/images/status", "/api/actuator", "/actuator"
+    );
+
+    private final RoutePolicyTrie trie = AuthFilter.buildRoutePolicies(EXCLUDED_PATHS);
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @DisplayName("trie 정책은 기존 정규식 규칙과 같은 결과를 내야 한다")
+    @CsvSource({
+            "POST,   /api/auth,                      PUBLIC",
+            "DELETE, /api/auth,                      PUBLIC",
+            "GET,    /api/authx,                     PUBLIC",
+            "POST,   /api/auth/refresh,              PUBLIC",
+            "GET,    /api/images/1,                  PUBLIC",
+            "GET,    /api/posts/top10,               PUBLIC",
+            "GET,    /api/posts/type/review,         PUBLIC",
+            "GET,    /actuator/prometheus,           PUBLIC",
+            "GET,    /api/actuator/health,           PUBLIC",
+            "GET,    /api/users/email,               PUBLIC",
+            "GET,    /api/users/nickname,            PUBLIC",
+            "GET,    /api/posts,                     PUBLIC",
+            "GET,    /api/posts/12,                  PUBLIC",
+            "GET,    /api/posts/12/stream,           PUBLIC",
+            "GET,    /api/posts/index,               PUBLIC",
+            "POST,   /api/users,                     PUBLIC",
+            "GET,    /api/posts/12/likes,            OPTIONAL",
+            "POST,   /api/posts/12/likes,            OPTIONAL",
+            "DELETE, /api/posts/12/likes,            OPTIONAL",
+            "GET,    /api/posts/12/comments,         OPTIONAL",
+            "GET,    /api/posts/12/comments/threads, OPTIONAL",
+            "GET,    /api/comments/3/thread,         OPTIONAL",
+            "POST,   /api/posts/12/comments,         REQUIRED",
+            "POST,   /api/posts,                     REQUIRED",
+            "PATCH,  /api/posts/12,                  REQUIRED",
+            "DELETE, /api/posts/12,                  REQUIRED",
+            "GET,    /api/posts/abc,                 REQUIRED",
+            "GET,    /api/posts/,                    REQUIRED",
+            "GET,    /api/posts/12/,                 REQUIRED",
+            "GET,    /api/posts//likes,              REQUIRED",
+            "GET,    /api/users,                     REQUIRED",
+            "PATCH,  /api/users,                     REQUIRED",
+            "GET,    /api/users/email/x,             REQUIRED",
+            "POST,   /api/users/email,               REQUIRED",
+            "POST,   /api/comments/3/replies,        REQUIRED",
+            "GET,    /api/comments/x/thread,         REQUIRED",
+            "GET,    /,                              REQUIRED",
+            "GET,    /api,                           REQUIRED",
+    })
+    void resolve_equivalentToLegacyRules(String method, String uri, RoutePolicy expected) {
+        assertThat(legacyPolicy(method, uri)).isEqualTo(expected);
+        assertThat(trie.resolve(method, uri)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @DisplayName("회원 id 자리는 UUID 세그먼트만 일치해야 한다")
+    @CsvSource({
+            "GET,    /api/users/3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c/posts,    PUBLIC",
+            "GET,    /api/users/3F2B8C1E-9A4D-4E7B-B5C6-0D1E2F3A4B5C/statuses, PUBLIC",
+            "POST,   /api/users/3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c/posts,    REQUIRED",
+            "GET,    /api/users/3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c,          REQUIRED",
+            "GET,    /api/users/12/posts,                                      REQUIRED",
+            "GET,    /api/users/3f2b8c1e9a4d4e7bb5c60d1e2f3a4b5c/posts,        REQUIRED",
+            "GET,    /api/users/3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5g/posts,    REQUIRED",
+            "GET,    /api/users/3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c/posts/,   REQUIRED",
+    })
+    void resolve_uuidSegment(String method, String uri, RoutePolicy expected) {
+        assertThat(trie.resolve(method, uri)).isEqualTo(expected);
+    }
+
+    // 기존 AuthFilter 의 shouldNotFilter + doFilterInternal 판단 로직
+    private RoutePolicy legacyPolicy(String method, String uri) {
+        if (EXCLUDED_PATHS.stream().anyMatch(uri::startsWith)) {
+            return RoutePolicy.PUBLIC;
+        }
+        if ("GET".equals(method) && (uri.matches("/api/users/email") ||
+                uri.matches("/api/users/nickname") ||
+                uri.matches("/api/posts") ||
+                uri.matches("/api/posts/\\d+") ||
+                uri.matches("/api/posts/\\d+/stream") ||
+                uri.matches("/api/posts/index"))) {
+            return RoutePolicy.PUBLIC;
+        }
+        if ("POST".equals(method) && uri.matches("/api/users")) {
+            return RoutePolicy.PUBLIC;
+        }
+        if (uri.matches("/api/posts/\\d+/likes") ||
+                ("GET".equals(method) &&
+                        (uri.matches("/api/posts/\\d+/comments(/threads)?") || uri.matches("/api/comments/\\d+/thread")))) {
+            return RoutePolicy.OPTIONAL;
+        }
+        return RoutePolicy.REQUIRED;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.kakaotech.community.auth.jwt;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.entity.RefreshToken;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JpaRefreshTokenStoreTest {
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("저장된 토큰과 같을 때만 교체되고, 이전 토큰으로는 다시 교체할 수 없어야 한다")
+    void rotate_compareAndSet() {
+        // given
+        UUID userId = UUID.randomUUID();
+        refreshTokenStore.save(userId, "first");
+        refreshTokenStore.save(userId, "second");
+        em.flush();
+        em.clear();
+
+        // when & then
+        assertThat(refreshTokenStore.rotate(userId, "first", "stolen")).isFalse();
+        assertThat(refreshTokenStore.rotate(userId, "second", "third")).isTrue();
+        assertThat(refreshTokenStore.rotate(userId, "second", "fourth")).isFalse();
+
+        em.clear();
+        assertThat(refreshTokenRepository.findByUserId(userId)).map(RefreshToken::getToken).hasValue("third");
+    }
+}
@@ -0,0 +1,90 @@
+package kr.kakaotech.community.auth.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-hs256-at-least-32-bytes";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 100);
+        ReflectionTestUtils.setField(jwtProvider, "accessTtlSec", 1800);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 결과를 돌려주어야 한다")
+    void verifyAccess_cacheHit() {
+        // given
+        String userId = UUID.randomUUID().toString();
+        String token = jwtProvider.createAccess(userId, "USER");
+
+        // when
+        JwtProvider.VerifiedToken first = jwtProvider.verifyAccess(token);
+        JwtProvider.VerifiedToken second = jwtProvider.verifyAccess(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(userId);
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("access 토큰의 발급 시각은 ms 단위로 복원되어야 한다")
+    void verifyAccess_issuedAtMillis() {
+        // given
+        long before = System.currentTimeMillis();
+        String token = jwtProvider.createAccess(UUID.randomUUID().toString(), "USER");
+        long after = System.currentTimeMillis();
+
+        // when
+        JwtProvider.VerifiedToken verified = jwtProvider.verifyAccess(token);
+
+        // then
+        assertThat(verified.issuedAtMillis()).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("서명은 같고 payload 가 바뀐 토큰은 캐시에서 꺼내지 않아야 한다")
+    void verifyAccess_tamperedPayload() {
+        // given
+        String token = jwtProvider.createAccess(UUID.randomUUID().toString(), "USER");
+        jwtProvider.verifyAccess(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("{\"sub\":\"" + UUID.randomUUID() + "\",\"role\":\"ADMIN\",\"exp\":9999999999}").getBytes());
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccess(forged))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에 넣지 않고 예외를 던져야 한다")
+    void verifyAccess_expired() {
+        // given
+        ReflectionTestUtils.setField(jwtProvider, "accessTtlSec", -1);
+        String token = jwtProvider.createAccess(UUID.randomUUID().toString(), "USER");
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccess(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtProvider.verifyAccess(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+}
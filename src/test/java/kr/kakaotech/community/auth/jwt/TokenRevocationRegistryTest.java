@@ -0,0 +1,113 @@
+package kr.kakaotech.community.auth.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TokenRevocationRegistryTest {
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("무효화 이전에 발급된 토큰만 거절되어야 한다")
+    void isRevoked_notBefore() {
+        // given
+        UUID revokedUser = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        long now = Instant.now().toEpochMilli();
+
+        // when
+        tokenRevocationRegistry.revoke(revokedUser);
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(revokedUser, now - 60_000)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(revokedUser, now + 60_000)).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(otherUser, now - 60_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 초 안에서도 무효화 이전 발급분만 거절하고 이후 발급분은 통과해야 한다")
+    void isRevoked_sameSecond() {
+        // given - 초 단위로는 모두 같은 시각
+        UUID userId = UUID.randomUUID();
+        long notBefore = 1_760_000_000_500L;
+
+        // when
+        tokenRevocationRegistry.apply(userId, notBefore);
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(userId, notBefore - 100)).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(userId, notBefore)).isFalse();
+        assertThat(tokenRevocationRegistry.isRevoked(userId, notBefore + 100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 직후 다시 로그인해서 받은 토큰은 거절되지 않아야 한다")
+    void revoke_thenRelogin() throws InterruptedException {
+        // given
+        UUID userId = UUID.randomUUID();
+        JwtProvider jwtProvider = new JwtProvider("test-secret-key-for-hs256-at-least-32-bytes", 100);
+        ReflectionTestUtils.setField(jwtProvider, "accessTtlSec", 1800);
+        JwtProvider.VerifiedToken before = jwtProvider.verifyAccess(jwtProvider.createAccess(userId.toString(), "USER"));
+        Thread.sleep(2);
+
+        // when
+        tokenRevocationRegistry.revoke(userId);
+        JwtProvider.VerifiedToken relogin = jwtProvider.verifyAccess(jwtProvider.createAccess(userId.toString(), "USER"));
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(userId, before.issuedAtMillis())).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(userId, relogin.issuedAtMillis())).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 후에도 DB 에 남은 무효화 기록은 유지되어야 한다")
+    void rebuild_keepsRevocations() {
+        // given
+        UUID revokedUser = UUID.randomUUID();
+        long issuedAt = Instant.now().toEpochMilli() - 1000;
+        tokenRevocationRegistry.revoke(revokedUser);
+
+        // when
+        tokenRevocationRegistry.rebuild();
+
+        // then
+        assertThat(tokenRevocationRegistry.isRevoked(revokedUser, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 걸리지 않은 사용자는 오탐으로 집계되지 않아야 한다")
+    void isRevoked_metrics() {
+        // given
+        double falsePositives = meterRegistry.get("jwt.revocation.bloom.false_positives").counter().count();
+        double hits = meterRegistry.get("jwt.revocation.bloom.hits").counter().count();
+
+        // when
+        int notHit = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (!tokenRevocationRegistry.isRevoked(UUID.randomUUID(), 0)) {
+                notHit++;
+            }
+        }
+
+        // then
+        double newHits = meterRegistry.get("jwt.revocation.bloom.hits").counter().count() - hits;
+        double newFalsePositives = meterRegistry.get("jwt.revocation.bloom.false_positives").counter().count() - falsePositives;
+        assertThat(notHit).isEqualTo(1000);
+        assertThat(newFalsePositives).isEqualTo(newHits);
+        assertThat(newHits).isLessThan(50);
+    }
+}
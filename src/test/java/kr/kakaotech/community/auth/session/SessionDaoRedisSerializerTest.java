@@ -0,0 +1,71 @@
+package kr.kakaotech.community.auth.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionDaoRedisSerializerTest {
+
+    private final SessionDaoRedisSerializer serializer = new SessionDaoRedisSerializer();
+
+    @Test
+    @DisplayName("바이너리로 저장한 세션은 초 단위까지 그대로 복원되어야 한다")
+    void roundTrip() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 30, 15, 123_000_000);
+        SessionDao session = new SessionDao(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "ADMIN", now, now.plusMinutes(30));
+
+        // when
+        byte[] bytes = serializer.serialize(session);
+        SessionDao restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes).hasSize(SessionDaoRedisSerializer.SIZE);
+        assertThat(restored.getSessionId()).isEqualTo(session.getSessionId());
+        assertThat(restored.getUserId()).isEqualTo(session.getUserId());
+        assertThat(restored.getRole()).isEqualTo("ADMIN");
+        assertThat(restored.getCreatedAt()).isEqualTo(now.withNano(0));
+        assertThat(restored.getLastAccessedAt()).isEqualTo(now.plusMinutes(30).withNano(0));
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식으로 저장된 세션도 읽을 수 있어야 한다")
+    void deserialize_legacyJson() {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        LocalDateTime now = LocalDateTime.now();
+        SessionDao session = new SessionDao(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "USER", now, now);
+
+        // when
+        SessionDao restored = serializer.deserialize(jsonSerializer.serialize(session));
+
+        // then
+        assertThat(restored.getUserId()).isEqualTo(session.getUserId());
+        assertThat(restored.getRole()).isEqualTo("USER");
+        assertThat(restored.getCreatedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전은 예외를 던져야 한다")
+    void deserialize_unknownVersion() {
+        byte[] bytes = new byte[SessionDaoRedisSerializer.SIZE];
+        bytes[0] = 9;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,190 @@
+package kr.kakaotech.community.auth.session;
+
+import jakarta.servlet.http.Cookie;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionNearCacheTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String KEY = "sessionKey:" + SESSION_ID;
+    private static final int SESSION_TTL = 1800;
+    private static final int REFRESH_THRESHOLD = 1500;
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, SessionDao> sessionRedisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, SessionDao> valueOperations = mock(ValueOperations.class);
+
+    private SessionNearCache nearCache;
+    private SessionFilter sessionFilter;
+    private SessionDao session;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new SessionNearCache(stringRedisTemplate, listenerContainer);
+        ReflectionTestUtils.setField(nearCache, "ttlMs", 5000L);
+        ReflectionTestUtils.setField(nearCache, "maxSize", 100);
+
+        sessionFilter = new SessionFilter(sessionRedisTemplate, nearCache);
+        ReflectionTestUtils.setField(sessionFilter, "sessionTtl", SESSION_TTL);
+        ReflectionTestUtils.setField(sessionFilter, "refreshThreshold", REFRESH_THRESHOLD);
+
+        when(sessionRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        LocalDateTime now = LocalDateTime.now();
+        session = new SessionDao(SESSION_ID, "user-1", "USER", now, now);
+    }
+
+    @Test
+    @DisplayName("near-cache 에 있는 세션은 Redis 를 다시 조회하지 않아야 한다")
+    void hit_skipsRedis() {
+        // given
+        when(valueOperations.getAndExpire(KEY, SESSION_TTL, TimeUnit.SECONDS)).thenReturn(session);
+
+        // when
+        MockHttpServletRequest first = request();
+        sessionFilter.setAttributeByAuth(SESSION_ID, first);
+        MockHttpServletRequest second = request();
+        sessionFilter.setAttributeByAuth(SESSION_ID, second);
+
+        // then
+        verify(valueOperations, times(1)).getAndExpire(anyString(), anyLong(), any(TimeUnit.class));
+        verify(sessionRedisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+        assertThat(second.getAttribute("userId")).isEqualTo("user-1");
+        assertThat(second.getAttribute("role")).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("캐시 보관 시간이 지나면 Redis 에서 다시 읽어야 한다")
+    void get_expiresAfterTtl() {
+        // given
+        long now = 1_000_000L;
+        nearCache.put(SESSION_ID, session, now, now + TimeUnit.SECONDS.toMillis(SESSION_TTL));
+
+        // when & then
+        assertThat(nearCache.get(SESSION_ID, now + 4999)).isNotNull();
+        assertThat(nearCache.get(SESSION_ID, now + 5000)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시에서 지워야 한다")
+    void onMessage_evicts() {
+        // given
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        ArgumentCaptor<Topic> topic = ArgumentCaptor.forClass(Topic.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), topic.capture());
+        long now = System.currentTimeMillis();
+        nearCache.put(SESSION_ID, session, now, now + TimeUnit.SECONDS.toMillis(SESSION_TTL));
+        String channel = ((ChannelTopic) topic.getValue()).getTopic();
+
+        // when
+        listener.getValue().onMessage(new DefaultMessage(
+                channel.getBytes(StandardCharsets.UTF_8), SESSION_ID.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(nearCache.get(SESSION_ID, now)).isNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃 무효화는 로컬에서 지우고 다른 노드에 메시지를 발행해야 한다")
+    void invalidate_publishes() {
+        // given
+        long now = System.currentTimeMillis();
+        nearCache.put(SESSION_ID, session, now, now + TimeUnit.SECONDS.toMillis(SESSION_TTL));
+
+        // when
+        nearCache.invalidate(SESSION_ID);
+
+        // then
+        assertThat(nearCache.get(SESSION_ID, now)).isNull();
+        verify(stringRedisTemplate).convertAndSend("session:invalidate", SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("남은 TTL 이 refresh-threshold 보다 작을 때만 EXPIRE 로 연장하고 만료 예정 시각을 갱신해야 한다")
+    void hit_refreshesBelowThreshold() {
+        // given - 남은 TTL 이 기준보다 1초 적은 캐시 항목
+        long now = System.currentTimeMillis();
+        long expiresAt = now + TimeUnit.SECONDS.toMillis(REFRESH_THRESHOLD - 1);
+        nearCache.put(SESSION_ID, session, now, expiresAt);
+        when(sessionRedisTemplate.expire(KEY, SESSION_TTL, TimeUnit.SECONDS)).thenReturn(true);
+
+        // when
+        sessionFilter.setAttributeByAuth(SESSION_ID, request());
+        sessionFilter.setAttributeByAuth(SESSION_ID, request());
+
+        // then - 첫 요청에서 한 번만 연장하고, 이후에는 갱신된 만료 시각으로 판단
+        verify(sessionRedisTemplate, times(1)).expire(KEY, SESSION_TTL, TimeUnit.SECONDS);
+        verify(valueOperations, never()).getAndExpire(anyString(), anyLong(), any(TimeUnit.class));
+        assertThat(nearCache.get(SESSION_ID, now).redisExpiresAtMillis())
+                .isGreaterThanOrEqualTo(now + TimeUnit.SECONDS.toMillis(SESSION_TTL));
+    }
+
+    @Test
+    @DisplayName("남은 TTL 이 충분하면 EXPIRE 를 보내지 않아야 한다")
+    void hit_skipsRefreshAboveThreshold() {
+        // given
+        long now = System.currentTimeMillis();
+        nearCache.put(SESSION_ID, session, now, now + TimeUnit.SECONDS.toMillis(REFRESH_THRESHOLD + 60));
+
+        // when
+        sessionFilter.setAttributeByAuth(SESSION_ID, request());
+
+        // then
+        verify(sessionRedisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("연장할 Redis 키가 이미 없으면 캐시에서 지우고 INVALID_SESSION 을 던져야 한다")
+    void hit_refreshFailsWhenKeyGone() {
+        // given
+        long now = System.currentTimeMillis();
+        nearCache.put(SESSION_ID, session, now, now + TimeUnit.SECONDS.toMillis(REFRESH_THRESHOLD - 1));
+        when(sessionRedisTemplate.expire(eq(KEY), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> sessionFilter.setAttributeByAuth(SESSION_ID, request()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SESSION);
+        assertThat(nearCache.get(SESSION_ID, now)).isNull();
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("JSESSIONID", SESSION_ID));
+        return request;
+    }
+}
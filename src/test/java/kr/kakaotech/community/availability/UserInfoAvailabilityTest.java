@@ -0,0 +1,82 @@
+package kr.kakaotech.community.availability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserInfoAvailabilityTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("여러 chunk 로 나눠 재구성해도 모든 사용자가 필터에 들어가야 하고, 없는 값은 DB 를 조회하지 않아야 한다")
+    void rebuild_chunked() {
+        // given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(userRepository.save(new User("bloom" + i + "@test.kr", "password", "bloom" + i, "USER")));
+        }
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserInfoAvailability availability = new UserInfoAvailability(userRepository, meterRegistry, 1000, 0.01, 2);
+        AtomicInteger dbCalls = new AtomicInteger();
+
+        // when
+        int entries = availability.rebuild();
+
+        // then
+        assertThat(entries).isGreaterThanOrEqualTo(users.size());
+        for (User user : users) {
+            assertThat(availability.isTaken(UserInfoAvailability.EMAIL, user.getEmail(), email -> dbCalls.incrementAndGet() > 0)).isTrue();
+            assertThat(availability.isTaken(UserInfoAvailability.NICKNAME, user.getNickname(), nickname -> dbCalls.incrementAndGet() > 0)).isTrue();
+        }
+
+        int before = dbCalls.get();
+        assertThat(availability.isTaken(UserInfoAvailability.EMAIL, "nobody-here@test.kr", email -> dbCalls.incrementAndGet() > 0)).isFalse();
+        assertThat(dbCalls.get()).isEqualTo(before);
+        assertThat(meterRegistry.get("user_info.bloom.negatives").tag("info", "email").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 필터를 거치지 않고 DB 로 확인해야 한다")
+    void isTaken_beforeRebuild() {
+        // given
+        UserInfoAvailability availability = new UserInfoAvailability(userRepository, new SimpleMeterRegistry(), 1000, 0.01, 100);
+        AtomicInteger dbCalls = new AtomicInteger();
+
+        // when
+        boolean taken = availability.isTaken(UserInfoAvailability.NICKNAME, "anyone", nickname -> dbCalls.incrementAndGet() < 0);
+
+        // then
+        assertThat(taken).isFalse();
+        assertThat(dbCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영된 값은 대소문자, 악센트, 뒤쪽 공백이 달라도 필터에 걸려야 하고 DB 가 없다고 하면 오탐으로 집계되어야 한다")
+    void apply_foldedKey() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserInfoAvailability availability = new UserInfoAvailability(userRepository, meterRegistry, 1000, 0.01, 100);
+        availability.rebuild();
+
+        // when
+        availability.apply("Café@Test.kr", "닉네임");
+
+        // then
+        assertThat(availability.isTaken(UserInfoAvailability.EMAIL, "cafe@test.kr ", email -> true)).isTrue();
+        assertThat(availability.isTaken(UserInfoAvailability.NICKNAME, "닉네임", nickname -> false)).isFalse();
+        assertThat(meterRegistry.get("user_info.bloom.false_positives").tag("info", "nickname").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,205 @@
+package kr.kakaotech.community.feed;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.entity.Comment;
+import kr.kakaotech.community.entity.Image;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostStatus;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.repository.IdSequenceAligner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("feed")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:feeddb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "datasource.replica.enabled=false",
+        "management.server.port=0"
+})
+class FeedRoutesTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext webServerContext;
+
+    @Autowired
+    private FeedReader feedReader;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private WebTestClient client;
+    private int postId;
+    private UUID writerId;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port + "/api").build();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createQuery("delete from comments").executeUpdate();
+            em.createQuery("delete from post_statuses").executeUpdate();
+            em.createQuery("delete from posts").executeUpdate();
+            em.createQuery("delete from users").executeUpdate();
+
+            User writer = new User("reader@test.kr", "password", "reader", "USER");
+            writer.addImage(new Image("/uploads/reader.png"));
+            em.persist(writer);
+            Post post = new Post("피드 글", "내용", PostType.COMPLETED, writer.getNickname(), LocalDateTime.now(), false, writer);
+            em.persist(post);
+            em.persist(new PostStatus(post));
+            em.persist(new Comment("피드 댓글", writer, post));
+            em.flush();
+            em.persist(new Comment("두번째 댓글", writer, post));
+            postId = post.getId();
+            writerId = writer.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("피드 조회 API 는 servlet API 와 같은 응답 형태로 내려가야 한다")
+    void feedRoutes_sameResponse() {
+        client.get().uri("/posts?size=5").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("게시글 목록 조회 성공")
+                .jsonPath("$.data.posts[0].title").isEqualTo("피드 글")
+                .jsonPath("$.data.hasNext").isEqualTo(false);
+
+        client.get().uri("/posts/top10").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.posts.length()").isEqualTo(1);
+
+        client.get().uri("/posts/index").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.message").isEqualTo("인덱스 게시글 목록 조회 성공");
+
+        client.get().uri("/posts/{postId}", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.title").isEqualTo("피드 글")
+                .jsonPath("$.data.profileImageUrl").isEqualTo("/uploads/reader.png");
+
+        client.get().uri("/posts/{postId}/comments", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.content[0].content").isEqualTo("피드 댓글");
+    }
+
+    @Test
+    @DisplayName("없는 게시글과 잘못된 파라미터는 servlet API 와 같은 에러로 응답해야 한다")
+    void feedRoutes_errors() {
+        client.get().uri("/posts/{postId}", postId + 1000).exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("존재하지 않는 게시글입니다.");
+
+        client.get().uri("/posts/abc").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("댓글 페이징은 servlet 의 Pageable 리졸버처럼 page, size 를 보정하고 sort 를 따라야 한다")
+    void commentList_paging() {
+        client.get().uri("/posts/{postId}/comments?page=-1&size=0", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.number").isEqualTo(0)
+                .jsonPath("$.data.size").isEqualTo(100)
+                .jsonPath("$.data.content[0].content").isEqualTo("피드 댓글");
+
+        client.get().uri("/posts/{postId}/comments?size=5000&page=abc", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.number").isEqualTo(0)
+                .jsonPath("$.data.size").isEqualTo(FeedHandler.MAX_PAGE_SIZE);
+
+        client.get().uri("/posts/{postId}/comments?sort=createdAt,desc&sort=id,desc", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.content[0].content").isEqualTo("두번째 댓글");
+
+        client.get().uri("/posts/{postId}/comments?sort=unknown", postId).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("잘못된 요청입니다.");
+    }
+
+    @Test
+    @DisplayName("스레드 목록의 잘못된 page, size 는 500 이 아니라 BAD_REQUEST 로 응답해야 한다")
+    void threadList_badParams() {
+        client.get().uri("/posts/{postId}/comments/threads?page=-1", postId).exchange()
+                .expectStatus().isBadRequest();
+
+        client.get().uri("/posts/{postId}/comments/threads?size=0", postId).exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("작성자 피드는 servlet API 와 같은 경로와 응답으로 열려야 한다")
+    void authorPostList() {
+        client.get().uri("/users/{userId}/posts?size=5", writerId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("작성자 게시글 목록 조회 성공")
+                .jsonPath("$.data.posts[0].title").isEqualTo("피드 글");
+
+        client.get().uri("/users/not-a-uuid/posts").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("피드 프로필에서는 쓰기 노드용 기동 작업이 돌지 않아야 한다")
+    void feedProfile_disablesWriteJobs() {
+        assertThat(applicationContext.getBeansOfType(IdSequenceAligner.class)).isEmpty();
+        assertThat(applicationContext.getEnvironment().getProperty("author-propagation.backfill-enabled", Boolean.class)).isFalse();
+        assertThat(applicationContext.getEnvironment().getProperty("author-propagation.retry-enabled", Boolean.class)).isFalse();
+        assertThat(applicationContext.getEnvironment().getProperty("user-status.backfill-enabled", Boolean.class)).isFalse();
+        assertThat(applicationContext.getEnvironment().getProperty("comment-thread.backfill-enabled", Boolean.class)).isFalse();
+        assertThat(applicationContext.getEnvironment().getProperty("jwt.revocation.purge-enabled", Boolean.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("피드 서버는 Netty 이벤트 루프에서 돌고 조회는 feed-jdbc 스레드에서 실행되어야 한다")
+    void feedServer_threads() {
+        assertThat(webServerContext.getWebServer()).isInstanceOf(NettyWebServer.class);
+
+        String thread = feedReader.getPostTop10List()
+                .map(response -> Thread.currentThread().getName())
+                .block();
+        assertThat(thread).startsWith("feed-jdbc");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 프로필에서는 쓰기 API 가 노출되지 않아야 한다")
+    void feedRoutes_readOnly() {
+        client.post().uri("/posts").contentType(MediaType.MULTIPART_FORM_DATA).exchange()
+                .expectStatus().is4xxClientError();
+
+        client.get().uri("/users").exchange()
+                .expectStatus().isNotFound();
+    }
+}
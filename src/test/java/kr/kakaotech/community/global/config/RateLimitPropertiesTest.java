@@ -0,0 +1,37 @@
+package kr.kakaotech.community.global.config;
+
+import kr.kakaotech.community.global.ratelimit.RateLimitRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPropertiesTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    @DisplayName("refill-per-second 나 capacity 가 0 이하면 기동에 실패해야 한다")
+    void invalidLimit_failsStartup() {
+        runner.withPropertyValues("rate-limit.routes.login.capacity=10", "rate-limit.routes.login.refill-per-second=0")
+                .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("rate-limit.routes.login.capacity=0", "rate-limit.routes.login.refill-per-second=1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    @DisplayName("올바른 설정은 그대로 바인딩되어야 한다")
+    void validLimit_binds() {
+        runner.withPropertyValues("rate-limit.routes.login.capacity=10", "rate-limit.routes.login.refill-per-second=0.2")
+                .run(context -> assertThat(context.getBean(RateLimitProperties.class).getRoutes().get(RateLimitRoute.LOGIN)
+                        .intervalNanos()).isEqualTo(5_000_000_000L));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class PropertiesConfig {
+    }
+}
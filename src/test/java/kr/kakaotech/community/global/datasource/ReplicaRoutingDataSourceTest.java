@@ -0,0 +1,128 @@
+package kr.kakaotech.community.global.datasource;
+
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.UserProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 H2 메모리 DB 두 개를 primary, replica 로 사용합니다.
+ * 복제는 없으므로 각 DB 에 marker 를 넣어 어느 쪽에서 읽었는지 확인하고, replica heartbeat 는 직접 씁니다.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:replicadb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.max-lag-ms=1000",
+        "datasource.replica.lag-check-ms=600000",
+        "datasource.replica.read-your-writes-ms=60000"
+})
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate routed;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        routed = new JdbcTemplate(dataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        mark(new JdbcTemplate(primaryDataSource), "primary");
+        mark(replica, "replica");
+
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        replicateHeartbeat(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 실행되어야 한다")
+    void route_byReadOnly() {
+        assertThat(readMarker(true)).isEqualTo("replica");
+        assertThat(readMarker(false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 max-lag-ms 를 넘으면 readOnly 도 primary 로 가야 한다")
+    void route_lagFallback() {
+        replicateHeartbeat(10_000);
+
+        assertThat(readMarker(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 read-your-writes 기간 동안 primary 에서 읽어야 한다")
+    void route_readYourWrites() {
+        loginAs(UUID.randomUUID());
+        assertThat(readMarker(true)).isEqualTo("replica");
+
+        readMarker(false);
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        loginAs(UUID.randomUUID());
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> routed.queryForObject("SELECT name FROM route_marker", String.class));
+    }
+
+    private void mark(JdbcTemplate jdbcTemplate, String name) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS route_marker (name VARCHAR(10))");
+        jdbcTemplate.update("DELETE FROM route_marker");
+        jdbcTemplate.update("INSERT INTO route_marker (name) VALUES (?)", name);
+    }
+
+    /**
+     * primary heartbeat 가 lagMs 전에 복제된 것처럼 replica 에 쓰고 지연을 다시 측정합니다.
+     */
+    private void replicateHeartbeat(long lagMs) {
+        replicaLagMonitor.check();
+        replica.update("DELETE FROM replica_heartbeat");
+        replica.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, ?)", System.currentTimeMillis() - lagMs);
+        replicaLagMonitor.check();
+    }
+
+    private void loginAs(UUID userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(CustomUserDetails.ATTRIBUTE, new CustomUserDetails(userId, "USER", UserProfile.EMPTY));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
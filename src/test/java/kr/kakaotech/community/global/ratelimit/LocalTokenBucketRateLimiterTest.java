@@ -0,0 +1,81 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import kr.kakaotech.community.global.config.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenBucketRateLimiterTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final LocalTokenBucketRateLimiter rateLimiter = new LocalTokenBucketRateLimiter(properties);
+
+    private RateLimitProperties.Limit limit(int capacity, double refillPerSecond) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(refillPerSecond);
+        return limit;
+    }
+
+    @Test
+    @DisplayName("capacity 만큼 허용한 뒤에는 다음 토큰까지 남은 시간을 돌려줘야 한다")
+    void tryAcquire_burstThenReject() {
+        // given
+        RateLimitProperties.Limit limit = limit(3, 1);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("LOGIN:127.0.0.1", limit)).isZero();
+        }
+        long retryAfter = rateLimiter.tryAcquire("LOGIN:127.0.0.1", limit);
+        assertThat(retryAfter).isBetween(1L, 1000L);
+
+        // 다른 키는 영향 없음
+        assertThat(rateLimiter.tryAcquire("LOGIN:10.0.0.1", limit)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 capacity 를 넘겨 허용하지 않아야 한다")
+    void tryAcquire_concurrent() throws InterruptedException {
+        // given
+        RateLimitProperties.Limit limit = limit(50, 0.001);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(400);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 400; i++) {
+            executor.execute(() -> {
+                if (rateLimiter.tryAcquire("LIKE:user", limit) == 0) {
+                    allowed.incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("쓰기 요청만 경로 묶음으로 분류되어야 한다")
+    void classify() {
+        assertThat(RateLimitRoute.classify("POST", "/api/auth")).isEqualTo(RateLimitRoute.LOGIN);
+        assertThat(RateLimitRoute.classify("POST", "/api/posts")).isEqualTo(RateLimitRoute.POST);
+        assertThat(RateLimitRoute.classify("POST", "/api/posts/3/comments")).isEqualTo(RateLimitRoute.COMMENT);
+        assertThat(RateLimitRoute.classify("POST", "/api/comments/3/replies")).isEqualTo(RateLimitRoute.COMMENT);
+        assertThat(RateLimitRoute.classify("POST", "/api/posts/3/likes")).isEqualTo(RateLimitRoute.LIKE);
+        assertThat(RateLimitRoute.classify("POST", "/api/comments/3/likes")).isEqualTo(RateLimitRoute.LIKE);
+        assertThat(RateLimitRoute.classify("GET", "/api/posts")).isNull();
+        assertThat(RateLimitRoute.classify("POST", "/api/auth/token")).isNull();
+    }
+}
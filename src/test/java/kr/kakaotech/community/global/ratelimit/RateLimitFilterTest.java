@@ -0,0 +1,41 @@
+package kr.kakaotech.community.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.servlet.context-path=/api",
+        "rate-limit.routes.login.capacity=1",
+        "rate-limit.routes.login.refill-per-second=0.001"
+})
+class RateLimitFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("신뢰하는 프록시가 보낸 X-Forwarded-For 의 클라이언트 IP 별로 따로 제한해야 한다")
+    void anonymous_keyedByForwardedClientIp() {
+        // given - 테스트 클라이언트는 127.0.0.1 이므로 internal-proxies 에 해당
+        WebTestClient client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port + "/api").build();
+
+        // when & then
+        login(client, "203.0.113.1").expectStatus().value(status -> assertThat(status).isNotEqualTo(429));
+        login(client, "203.0.113.1").expectStatus().isEqualTo(429);
+        login(client, "203.0.113.2").expectStatus().value(status -> assertThat(status).isNotEqualTo(429));
+    }
+
+    private WebTestClient.ResponseSpec login(WebTestClient client, String clientIp) {
+        return client.post().uri("/auth")
+                .header("X-Forwarded-For", clientIp)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"nobody@test.kr\",\"password\":\"password\"}")
+                .exchange();
+    }
+}
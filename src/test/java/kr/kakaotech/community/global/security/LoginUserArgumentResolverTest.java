@@ -0,0 +1,62 @@
+package kr.kakaotech.community.global.security;
+
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginUserArgumentResolverTest {
+
+    private final LoginUserArgumentResolver resolver = new LoginUserArgumentResolver();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final ServletWebRequest webRequest = new ServletWebRequest(request);
+
+    @SuppressWarnings("unused")
+    void handler(@LoginUser CustomUserDetails required,
+                 @LoginUser(required = false) CustomUserDetails optional,
+                 CustomUserDetails plain) {
+    }
+
+    private MethodParameter parameter(int index) throws NoSuchMethodException {
+        Method method = getClass().getDeclaredMethod("handler", CustomUserDetails.class, CustomUserDetails.class, CustomUserDetails.class);
+        return new MethodParameter(method, index);
+    }
+
+    @Test
+    @DisplayName("@LoginUser 가 붙은 CustomUserDetails 파라미터만 지원해야 한다")
+    void supportsParameter() throws NoSuchMethodException {
+        assertThat(resolver.supportsParameter(parameter(0))).isTrue();
+        assertThat(resolver.supportsParameter(parameter(1))).isTrue();
+        assertThat(resolver.supportsParameter(parameter(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("인증 사용자가 있으면 required 여부와 상관없이 주입해야 한다")
+    void resolveArgument_authenticated() throws NoSuchMethodException {
+        // given
+        CustomUserDetails loginUser = new CustomUserDetails(UUID.randomUUID(), "USER", new UserProfile("login", null, false));
+        request.setAttribute(CustomUserDetails.ATTRIBUTE, loginUser);
+
+        // when & then
+        assertThat(resolver.resolveArgument(parameter(0), null, webRequest, null)).isSameAs(loginUser);
+        assertThat(resolver.resolveArgument(parameter(1), null, webRequest, null)).isSameAs(loginUser);
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 required 면 UNAUTHORIZED, 아니면 null 이어야 한다")
+    void resolveArgument_anonymous() throws NoSuchMethodException {
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter(0), null, webRequest, null))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.UNAUTHORIZED);
+        assertThat(resolver.resolveArgument(parameter(1), null, webRequest, null)).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package kr.kakaotech.community.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // "block" 을 해시하면 release 될 때까지 대기하는 encoder
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "$2a$10$" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, 5000, 10);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 대기열이 가득 차면 429 로 거절해야 한다")
+    void encode_rejectWhenQueueFull() throws Exception {
+        // given - 스레드 1개 사용 중 + 대기열 1개
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("block"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("queued"));
+        while (meterRegistry.get("password.hash.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$10$block");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$10$queued");
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 min-cost 보다 낮을 때만 재해시 대상이어야 한다")
+    void needsRehash() {
+        assertThat(passwordHasher.needsRehash("$2a$10$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(passwordHasher.needsRehash("$2a$12$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(passwordHasher.needsRehash("$2a$08$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(passwordHasher.needsRehash("not-a-bcrypt-hash")).isTrue();
+    }
+}
@@ -0,0 +1,124 @@
+package kr.kakaotech.community.global.security;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.entity.Image;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.job.AuthorChangedEvent;
+import kr.kakaotech.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserProfileCacheTest {
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private TransactionTemplate transactionTemplate;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userId = transactionTemplate.execute(status -> {
+            User user = new User("profile-cache@test.kr", "password", "pcache", "USER");
+            user.addImage(new Image("/uploads/pcache.png"));
+            em.persist(user);
+            return user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        userProfileCache.evict(userId);
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(userId));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 프로필은 evict 전까지 캐시에서 돌려주고 evict 뒤에는 다시 읽어야 한다")
+    void get_hitMissEvict() {
+        // miss - DB 에서 읽어 담습니다.
+        UserProfile first = userProfileCache.get(userId);
+        assertThat(first).isEqualTo(new UserProfile("pcache", "/uploads/pcache.png", false));
+
+        // hit - DB 가 바뀌어도 ttl 안에서는 캐시 값을 돌려줍니다.
+        renameUser("pcache2");
+        assertThat(userProfileCache.get(userId)).isSameAs(first);
+
+        // evict - 다음 조회에서 다시 읽습니다.
+        userProfileCache.evict(userId);
+        assertThat(userProfileCache.get(userId).nickname()).isEqualTo("pcache2");
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 다시 읽고, 없는 사용자는 탈퇴한 사용자로 취급해야 한다")
+    void get_expiredAndMissing() {
+        long ttlMs = (long) ReflectionTestUtils.getField(userProfileCache, "ttlMs");
+        ReflectionTestUtils.setField(userProfileCache, "ttlMs", 0L);
+        try {
+            userProfileCache.get(userId);
+            renameUser("pcache3");
+            assertThat(userProfileCache.get(userId).nickname()).isEqualTo("pcache3");
+        } finally {
+            ReflectionTestUtils.setField(userProfileCache, "ttlMs", ttlMs);
+        }
+
+        assertThat(userProfileCache.get(UUID.randomUUID())).isEqualTo(UserProfile.EMPTY);
+        assertThat(UserProfile.EMPTY.deleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("작성자 변경 이벤트는 커밋 이후에만 캐시를 지워야 한다")
+    void onAuthorChanged_evictsAfterCommit() {
+        // given
+        UserProfile cached = userProfileCache.get(userId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("UPDATE users u SET u.nickname = 'pcache4', u.deleted = true WHERE u.id = :id")
+                    .setParameter("id", userId)
+                    .executeUpdate();
+            eventPublisher.publishEvent(new AuthorChangedEvent(userId, "pcache4", null));
+
+            // 커밋 전에는 다른 요청이 이전 row 를 다시 담지 않도록 그대로 둡니다.
+            assertThat(userProfileCache.get(userId)).isSameAs(cached);
+        });
+
+        // then
+        UserProfile reloaded = userProfileCache.get(userId);
+        assertThat(reloaded.nickname()).isEqualTo("pcache4");
+        assertThat(reloaded.deleted()).isTrue();
+    }
+
+    private void renameUser(String nickname) {
+        transactionTemplate.executeWithoutResult(status ->
+                em.createQuery("UPDATE users u SET u.nickname = :nickname WHERE u.id = :id")
+                        .setParameter("nickname", nickname)
+                        .setParameter("id", userId)
+                        .executeUpdate());
+    }
+}
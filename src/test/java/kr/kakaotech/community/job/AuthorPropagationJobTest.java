@@ -0,0 +1,149 @@
+package kr.kakaotech.community.job;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.dto.response.PostSummaryResponse;
+import kr.kakaotech.community.entity.Image;
+import kr.kakaotech.community.entity.JobCheckpoint;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostStatus;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kakaotech.community.repository.JobCheckpointRepository;
+import kr.kakaotech.community.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Transactional
+class AuthorPropagationJobTest {
+
+    @Autowired
+    private AuthorPropagationJob authorPropagationJob;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("작성자 변경은 batch 단위로 나눠 작성자의 모든 게시글에 반영되어야 한다")
+    void propagate_updatesAllPostsInBatches() {
+        // given
+        User writer = new User("author@test.kr", "password", "before", "USER");
+        User other = new User("other-author@test.kr", "password", "other", "USER");
+        em.persist(writer);
+        em.persist(other);
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post("전파 테스트 " + i, "내용", PostType.IN_PROGRESS, writer.getNickname(), LocalDateTime.now(), false, writer);
+            em.persist(post);
+            em.persist(new PostStatus(post));
+        }
+        Post otherPost = new Post("다른 작성자", "내용", PostType.IN_PROGRESS, other.getNickname(), LocalDateTime.now(), false, other);
+        em.persist(otherPost);
+        em.flush();
+        em.clear();
+        int batchSize = (int) ReflectionTestUtils.getField(authorPropagationJob, "batchSize");
+        ReflectionTestUtils.setField(authorPropagationJob, "batchSize", 2);
+
+        // when
+        long updated;
+        try {
+            updated = authorPropagationJob.propagate(new AuthorChangedEvent(writer.getId(), "after", "/uploads/after.png"));
+        } finally {
+            ReflectionTestUtils.setField(authorPropagationJob, "batchSize", batchSize);
+        }
+        em.clear();
+
+        // then
+        assertThat(updated).isEqualTo(5);
+        List<PostSummaryResponse> posts = postRepository.findPostByNickname("after", PageRequest.of(0, 10));
+        assertThat(posts).hasSize(5);
+        assertThat(posts).extracting(PostSummaryResponse::getImageUrl).containsOnly("/uploads/after.png");
+        assertThat(postRepository.findPostByNickname("before", PageRequest.of(0, 10))).isEmpty();
+        assertThat(postRepository.findById(otherPost.getId()).orElseThrow().getNickname()).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("author_image_url 채우기는 완료 표시 뒤에는 다시 돌지 않아야 한다")
+    void backfillAuthorImageUrl_runsOnce() {
+        // given
+        authorPropagationJob.backfillAuthorImageUrl();
+        assertThat(jobCheckpointRepository.findById(AuthorPropagationJob.BACKFILL_CHECKPOINT_NAME))
+                .map(JobCheckpoint::getPosition).contains(AuthorPropagationJob.BACKFILL_DONE);
+
+        User writer = new User("backfill@test.kr", "password", "backfill", "USER");
+        writer.addImage(new Image("/uploads/backfill.png"));
+        em.persist(writer);
+        Post post = new Post("채우기 테스트", "내용", PostType.IN_PROGRESS, writer.getNickname(), LocalDateTime.now(), false, writer);
+        em.persist(post);
+        em.flush();
+        em.clear();
+
+        // when
+        authorPropagationJob.backfillAuthorImageUrl();
+        em.clear();
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getAuthorImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패한 변경 뒤에 같은 작성자의 최신 변경이 성공하면 이전 변경은 다시 대기열에 넣지 않아야 한다")
+    void drain_dropsStaleFailureAfterNewerSuccess() {
+        // given
+        PostRepository mockRepository = mock(PostRepository.class);
+        AuthorPropagationJob job = new AuthorPropagationJob(mockRepository, mock(JobCheckpointRepository.class),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(job, "batchSize", 10);
+        @SuppressWarnings("unchecked")
+        Map<UUID, AuthorChangedEvent> pending = (Map<UUID, AuthorChangedEvent>) ReflectionTestUtils.getField(job, "pending");
+
+        UUID userId = UUID.randomUUID();
+        AuthorChangedEvent stale = new AuthorChangedEvent(userId, "stale", null);
+        AuthorChangedEvent newer = new AuthorChangedEvent(userId, "newer", null);
+        pending.put(userId, stale);
+
+        // 첫 변경이 실패하는 동안 최신 변경이 들어옵니다.
+        given(mockRepository.findIdsByUserIdAfter(eq(userId), anyInt(), any()))
+                .willAnswer(invocation -> {
+                    pending.put(userId, newer);
+                    throw new IllegalStateException("db down");
+                })
+                .willReturn(List.of(1));
+        given(mockRepository.updateAuthor(List.of(1), "newer", null)).willReturn(1);
+
+        // when
+        long updated = job.drain();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(pending).isEmpty();
+        verify(mockRepository, never()).updateAuthor(any(), eq("stale"), any());
+        job.shutdown();
+    }
+}
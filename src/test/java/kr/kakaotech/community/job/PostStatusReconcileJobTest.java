@@ -0,0 +1,221 @@
+package kr.kakaotech.community.job;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.entity.*;
+import kr.kakaotech.community.repository.CommentRepository;
+import kr.kakaotech.community.repository.PostStatusRepository;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@Transactional
+class PostStatusReconcileJobTest {
+
+    @Autowired
+    private PostStatusReconcileJob postStatusReconcileJob;
+
+    @Autowired
+    private PostStatusRepository postStatusRepository;
+
+    @Autowired
+    private UserStatusRepository userStatusRepository;
+
+    @MockitoSpyBean
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("실제 좋아요, 댓글 수와 다른 카운터만 고쳐야 한다")
+    void reconcileRange_fixesDriftOnly() {
+        // given
+        User user = new User("reconcile@test.kr", "password", "reconcile", "USER");
+        em.persist(user);
+
+        Post drifted = newPost(user);
+        Post consistent = newPost(user);
+
+        PostStatus driftedStatus = new PostStatus(drifted);
+        driftedStatus.updateCount(3, 5, 0);
+        em.persist(driftedStatus);
+        em.persist(new PostStatus(consistent));
+
+        em.persist(new PostLike(user, drifted));
+        em.persist(new Comment("댓글", user, drifted));
+        Comment deleted = new Comment("삭제된 댓글", user, drifted);
+        deleted.delete();
+        em.persist(deleted);
+        em.flush();
+
+        int fromId = Math.min(drifted.getId(), consistent.getId());
+        int toId = Math.max(drifted.getId(), consistent.getId());
+
+        // when
+        PostStatusReconcileJob.ReconcileResult result = postStatusReconcileJob.reconcileRange(fromId, toId);
+        em.clear();
+
+        // then
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.fixed()).isEqualTo(1);
+        assertThat(result.likeDrift()).isEqualTo(4);
+        assertThat(result.commentDrift()).isEqualTo(1);
+
+        PostStatus fixed = postStatusRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(fixed.getLikeCount()).isEqualTo(1);
+        assertThat(fixed.getCommentCount()).isEqualTo(1);
+        assertThat(fixed.getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("집계와 보정 사이에 들어온 좋아요는 보정으로 덮어쓰지 않아야 한다")
+    void reconcileRange_keepsConcurrentLike() {
+        // given
+        User user = new User("reconcile-race@test.kr", "password", "racer", "USER");
+        User liker = new User("reconcile-liker@test.kr", "password", "liker", "USER");
+        em.persist(user);
+        em.persist(liker);
+        Post post = newPost(user);
+        PostStatus status = new PostStatus(post);
+        status.updateCount(0, 5, 0);
+        em.persist(status);
+        em.flush();
+
+        // 카운터와 좋아요 수를 읽은 뒤, 보정 UPDATE 전에 다른 사용자의 좋아요가 반영됩니다.
+        List<Object[]> commentRows = commentRepository.countGroupByPostIdRange(post.getId(), post.getId());
+        AtomicBoolean interleaved = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (interleaved.compareAndSet(false, true)) {
+                em.persist(new PostLike(liker, post));
+                em.flush();
+                postStatusRepository.incrementLikeCount(post.getId());
+            }
+            return commentRows;
+        }).when(commentRepository).countGroupByPostIdRange(post.getId(), post.getId());
+
+        // when
+        PostStatusReconcileJob.ReconcileResult result = postStatusReconcileJob.reconcileRange(post.getId(), post.getId());
+        em.clear();
+
+        // then
+        assertThat(result.fixed()).isZero();
+        PostStatus kept = postStatusRepository.findById(post.getId()).orElseThrow();
+        assertThat(kept.getLikeCount()).isEqualTo(6);
+
+        // 다음 실행에서는 새 좋아요까지 포함해 맞춰집니다.
+        postStatusReconcileJob.reconcileRange(post.getId(), post.getId());
+        em.clear();
+        assertThat(postStatusRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성자 통계를 삭제되지 않은 게시글 수와 그 게시글이 받은 좋아요 수로 맞춰야 한다")
+    void reconcileUsers_fixesDrift() {
+        // given - 실제로는 게시글 1개, 받은 좋아요 1개
+        User writer = new User("reconcile-writer@test.kr", "password", "writer", "USER");
+        User liker = new User("reconcile-fan@test.kr", "password", "fan", "USER");
+        em.persist(writer);
+        em.persist(liker);
+        em.persist(new UserStatus(writer.getId()));
+        em.persist(new UserStatus(liker.getId()));
+
+        Post live = newPost(writer);
+        Post deleted = newPost(writer);
+        deleted.deletePost();
+        em.persist(new PostLike(liker, live));
+        em.persist(new PostLike(liker, deleted));
+        em.flush();
+        userStatusRepository.updateCounts(writer.getId(), 5, 9, 0, 0);
+        em.clear();
+
+        // when
+        PostStatusReconcileJob.ReconcileResult result = postStatusReconcileJob.reconcileUsers(
+                userStatusRepository.findAllById(List.of(writer.getId(), liker.getId())));
+        em.clear();
+
+        // then - liker 는 이미 맞으므로 그대로
+        assertThat(result.userScanned()).isEqualTo(2);
+        assertThat(result.userFixed()).isEqualTo(1);
+        UserStatus fixed = userStatusRepository.findById(writer.getId()).orElseThrow();
+        assertThat(fixed.getPostCount()).isEqualTo(1);
+        assertThat(fixed.getReceivedLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 실행은 게시글 카운터에 이어 작성자 통계까지 chunk 로 이어서 맞춰야 한다")
+    void run_reconcilesUserStatusesInChunks() {
+        // given - chunk 크기보다 많은 작성자
+        ReflectionTestUtils.setField(postStatusReconcileJob, "chunkSize", 2);
+        ReflectionTestUtils.setField(postStatusReconcileJob, "rowsPerSecond", 0);
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User writer = new User("reconcile-run" + i + "@test.kr", "password", "run" + i, "USER");
+            em.persist(writer);
+            em.persist(new UserStatus(writer.getId()));
+            newPost(writer);
+            writers.add(writer);
+        }
+        em.flush();
+
+        try {
+            // when
+            PostStatusReconcileJob.ReconcileResult result = postStatusReconcileJob.run();
+            em.clear();
+
+            // then
+            assertThat(result.userScanned()).isGreaterThanOrEqualTo(5);
+            for (User writer : writers) {
+                assertThat(userStatusRepository.findById(writer.getId()).orElseThrow().getPostCount()).isEqualTo(1);
+            }
+        } finally {
+            ReflectionTestUtils.setField(postStatusReconcileJob, "chunkSize", 1000);
+            ReflectionTestUtils.setField(postStatusReconcileJob, "rowsPerSecond", 5000);
+        }
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 바뀐 작성자 통계는 보정으로 덮어쓰지 않아야 한다")
+    void reconcileUsers_keepsConcurrentChange() {
+        // given
+        User writer = new User("reconcile-busy@test.kr", "password", "busy", "USER");
+        em.persist(writer);
+        em.persist(new UserStatus(writer.getId()));
+        newPost(writer);
+        em.flush();
+        em.clear();
+        List<UserStatus> statuses = userStatusRepository.findAllById(List.of(writer.getId()));
+
+        // 통계를 읽은 뒤 게시글이 하나 더 등록됨
+        newPost(writer);
+        em.flush();
+        userStatusRepository.incrementPostCount(writer.getId());
+
+        // when
+        PostStatusReconcileJob.ReconcileResult result = postStatusReconcileJob.reconcileUsers(statuses);
+        em.clear();
+
+        // then
+        assertThat(result.userFixed()).isZero();
+        assertThat(userStatusRepository.findById(writer.getId()).orElseThrow().getPostCount()).isEqualTo(1);
+    }
+
+    private Post newPost(User user) {
+        Post post = new Post("정합성 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        return post;
+    }
+}
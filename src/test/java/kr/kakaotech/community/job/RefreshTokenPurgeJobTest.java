@@ -0,0 +1,54 @@
+package kr.kakaotech.community.job;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.entity.RefreshToken;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("만료된 토큰만 batch 단위로 모두 지워야 한다")
+    void run_deletesExpiredOnly() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            em.persist(new RefreshToken(UUID.randomUUID(), "expired-" + i, -60));
+        }
+        RefreshToken valid = new RefreshToken(UUID.randomUUID(), "valid", 3600);
+        em.persist(valid);
+        em.flush();
+        em.clear();
+
+        ReflectionTestUtils.setField(refreshTokenPurgeJob, "batchSize", 2);
+
+        // when
+        long deleted = refreshTokenPurgeJob.run();
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getToken)
+                .containsExactly("valid");
+
+        ReflectionTestUtils.setField(refreshTokenPurgeJob, "batchSize", 1000);
+    }
+}
@@ -0,0 +1,269 @@
+package kr.kakaotech.community.job;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.dto.response.PostDetailResponse;
+import kr.kakaotech.community.entity.Comment;
+import kr.kakaotech.community.entity.CommentLike;
+import kr.kakaotech.community.entity.Image;
+import kr.kakaotech.community.entity.JobCheckpoint;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostLike;
+import kr.kakaotech.community.entity.PostStatus;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.RefreshToken;
+import kr.kakaotech.community.entity.RefreshTokenRepository;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.repository.JobCheckpointRepository;
+import kr.kakaotech.community.repository.UserRepository;
+import kr.kakaotech.community.service.ImageService;
+import kr.kakaotech.community.service.PostService;
+import kr.kakaotech.community.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * job 이 chunk 마다 직접 커밋하는지 확인해야 하므로 테스트 트랜잭션 없이 실행하고 만든 데이터는 tearDown 에서 지웁니다.
+ */
+@SpringBootTest
+class WithdrawnUserPurgeJobTest {
+
+    @Autowired
+    private WithdrawnUserPurgeJob withdrawnUserPurgeJob;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private TransactionTemplate transactionTemplate;
+    private Object originalChunkSize;
+    private Object originalUsersPerSecond;
+
+    private final List<UUID> userIds = new ArrayList<>();
+    private final List<Integer> postIds = new ArrayList<>();
+    private final List<Integer> imageIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        originalChunkSize = ReflectionTestUtils.getField(withdrawnUserPurgeJob, "chunkSize");
+        originalUsersPerSecond = ReflectionTestUtils.getField(withdrawnUserPurgeJob, "usersPerSecond");
+        ReflectionTestUtils.setField(withdrawnUserPurgeJob, "chunkSize", 1);
+        ReflectionTestUtils.setField(withdrawnUserPurgeJob, "usersPerSecond", 0);
+        deleteCheckpoint();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(withdrawnUserPurgeJob, "chunkSize", originalChunkSize);
+        ReflectionTestUtils.setField(withdrawnUserPurgeJob, "usersPerSecond", originalUsersPerSecond);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!postIds.isEmpty()) {
+                em.createQuery("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM comments c WHERE c.post.id IN :ids)").setParameter("ids", postIds).executeUpdate();
+                em.createQuery("DELETE FROM post_likes pl WHERE pl.post.id IN :ids").setParameter("ids", postIds).executeUpdate();
+                em.createQuery("DELETE FROM comments c WHERE c.post.id IN :ids").setParameter("ids", postIds).executeUpdate();
+                em.createQuery("DELETE FROM post_statuses ps WHERE ps.postId IN :ids").setParameter("ids", postIds).executeUpdate();
+                em.createQuery("DELETE FROM posts p WHERE p.id IN :ids").setParameter("ids", postIds).executeUpdate();
+            }
+            if (!userIds.isEmpty()) {
+                em.createQuery("DELETE FROM RefreshToken r WHERE r.userId IN :ids").setParameter("ids", userIds).executeUpdate();
+                em.createQuery("DELETE FROM user_statuses us WHERE us.userId IN :ids").setParameter("ids", userIds).executeUpdate();
+                em.createQuery("DELETE FROM users u WHERE u.id IN :ids").setParameter("ids", userIds).executeUpdate();
+            }
+            if (!imageIds.isEmpty()) {
+                em.createQuery("DELETE FROM images i WHERE i.id IN :ids").setParameter("ids", imageIds).executeUpdate();
+            }
+        });
+        deleteCheckpoint();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 탈퇴 회원은 좋아요, 토큰, 이미지와 함께 지우고 글이 남은 회원은 익명화해야 한다")
+    void run_purgesChunks() {
+        // given
+        Fixture fixture = transactionTemplate.execute(status -> {
+            User writer = persistUser("purge-writer@test.kr", "pwriter");
+            Post post = persistPost(writer, "정리 테스트");
+            PostStatus postStatus = em.find(PostStatus.class, post.getId());
+            ReflectionTestUtils.setField(postStatus, "likeCount", 1);
+            Comment comment = new Comment("댓글", writer, post);
+            ReflectionTestUtils.setField(comment, "likeCount", 1);
+            em.persist(comment);
+
+            // 기본 프로필 이미지 번호(1 ~ 8)는 지우지 않으므로 그 뒤 번호로 만듭니다.
+            Image image;
+            do {
+                image = new Image("/uploads/purge.png");
+                em.persist(image);
+                imageIds.add(image.getId());
+            } while (image.getId() <= ImageService.DEFAULT_IMAGE_COUNT);
+            User leaver = withdrawn("purge-leaver@test.kr", "pleaver", 40);
+            leaver.addImage(image);
+            em.persist(new PostLike(leaver, post));
+            em.persist(new CommentLike(leaver, comment));
+            em.persist(new RefreshToken(leaver.getId(), "purge-token", 3600));
+
+            User author = withdrawn("purge-author@test.kr", "pauthor", 40);
+            Image authorImage = new Image("/uploads/purge-author.png");
+            em.persist(authorImage);
+            imageIds.add(authorImage.getId());
+            author.addImage(authorImage);
+            em.persist(new Comment("탈퇴 회원 댓글", author, post));
+            Post authorPost = persistPost(author, "탈퇴 회원 글");
+            ReflectionTestUtils.setField(authorPost, "authorImageUrl", "/uploads/purge-author.png");
+
+            User recent = withdrawn("purge-recent@test.kr", "precent", 1);
+            return new Fixture(post.getId(), comment.getId(), image.getId(), leaver.getId(), author.getId(), authorPost.getId(), recent.getId());
+        });
+
+        // when
+        WithdrawnUserPurgeJob.PurgeResult result = withdrawnUserPurgeJob.run();
+
+        // then
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.anonymized()).isEqualTo(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(em.find(User.class, fixture.leaverId())).isNull();
+            assertThat(em.find(Image.class, fixture.imageId())).isNull();
+            assertThat(em.find(PostStatus.class, fixture.postId()).getLikeCount()).isZero();
+            assertThat(em.find(Comment.class, fixture.commentId()).getLikeCount()).isZero();
+            assertThat(em.createQuery("SELECT COUNT(r) FROM RefreshToken r WHERE r.token = 'purge-token'", Long.class)
+                    .getSingleResult()).isZero();
+
+            User anonymized = em.find(User.class, fixture.authorId());
+            assertThat(anonymized.getEmail()).isNull();
+            assertThat(em.find(Post.class, fixture.authorPostId()).getAuthorImageUrl()).isNull();
+            assertThat(em.find(User.class, fixture.recentId()).getEmail()).isEqualTo("purge-recent@test.kr");
+        });
+
+        // 익명화된 작성자는 프로필 이미지가 없어도 게시글 상세, 회원 조회가 되어야 합니다.
+        PostDetailResponse detail = postService.getPostDetails(fixture.authorPostId());
+        assertThat(detail.getTitle()).isEqualTo("탈퇴 회원 글");
+        assertThat(detail.getProfileImageUrl()).isNull();
+        assertThat(userService.getUser(fixture.authorId().toString()).getEmail()).isNull();
+
+        assertThat(jobCheckpointRepository.findById(WithdrawnUserPurgeJob.CHECKPOINT_NAME))
+                .map(JobCheckpoint::getPosition).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간 chunk 가 실패해도 앞 chunk 는 커밋되고, 다음 실행은 체크포인트 다음부터 이어가야 한다")
+    void run_commitsPerChunkAndResumes() {
+        // given - 보관 기간이 지난 탈퇴 회원 3명, chunk 크기 1
+        List<UUID> targets = transactionTemplate.execute(status -> List.of(
+                withdrawn("purge-resume1@test.kr", "presume1", 40).getId(),
+                withdrawn("purge-resume2@test.kr", "presume2", 40).getId(),
+                withdrawn("purge-resume3@test.kr", "presume3", 40).getId()
+        ));
+
+        // 두 번째 chunk 에서 실패
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("chunk 실패");
+            }
+            return 0;
+        }).when(refreshTokenRepository).deleteAllByUserIds(anyCollection());
+
+        // when
+        assertThatThrownBy(() -> withdrawnUserPurgeJob.run()).isInstanceOf(IllegalStateException.class);
+
+        // then - 첫 chunk 만 지워지고 체크포인트는 그 회원에 멈춤
+        List<UUID> remaining = remainingUsers(targets);
+        assertThat(remaining).hasSize(2);
+        UUID purged = targets.stream().filter(id -> !remaining.contains(id)).findFirst().orElseThrow();
+        String position = jobCheckpointRepository.findById(WithdrawnUserPurgeJob.CHECKPOINT_NAME)
+                .map(JobCheckpoint::getPosition).orElseThrow();
+        assertThat(position).isEqualTo(purged.toString());
+
+        // when - 장애가 풀린 뒤 다시 실행
+        Mockito.reset(refreshTokenRepository);
+        Mockito.clearInvocations(userRepository);
+        WithdrawnUserPurgeJob.PurgeResult result = withdrawnUserPurgeJob.run();
+
+        // then - 체크포인트 다음부터 이어서 나머지를 정리하고 체크포인트를 처음으로 되돌림
+        ArgumentCaptor<UUID> lastIds = ArgumentCaptor.forClass(UUID.class);
+        verify(userRepository, Mockito.atLeastOnce()).findPurgeTargetIds(any(), lastIds.capture(), any());
+        assertThat(lastIds.getAllValues().get(0)).isEqualTo(purged);
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(remainingUsers(targets)).isEmpty();
+        assertThat(jobCheckpointRepository.findById(WithdrawnUserPurgeJob.CHECKPOINT_NAME))
+                .map(JobCheckpoint::getPosition).isEmpty();
+    }
+
+    private List<UUID> remainingUsers(List<UUID> targets) {
+        return transactionTemplate.execute(status -> targets.stream()
+                .filter(id -> em.find(User.class, id) != null)
+                .toList());
+    }
+
+    private User persistUser(String email, String nickname) {
+        User user = new User(email, "password", nickname, "USER");
+        em.persist(user);
+        userIds.add(user.getId());
+        return user;
+    }
+
+    private Post persistPost(User writer, String title) {
+        Post post = new Post(title, "내용", PostType.IN_PROGRESS, writer.getNickname(), LocalDateTime.now(), false, writer);
+        em.persist(post);
+        em.persist(new PostStatus(post));
+        postIds.add(post.getId());
+        return post;
+    }
+
+    private User withdrawn(String email, String nickname, int daysAgo) {
+        User user = persistUser(email, nickname);
+        user.deleteUser();
+        ReflectionTestUtils.setField(user, "deletedAt", LocalDateTime.now().minusDays(daysAgo));
+        return user;
+    }
+
+    private void deleteCheckpoint() {
+        transactionTemplate.executeWithoutResult(status -> jobCheckpointRepository.findById(WithdrawnUserPurgeJob.CHECKPOINT_NAME)
+                .ifPresent(jobCheckpointRepository::delete));
+    }
+
+    private record Fixture(int postId, int commentId, int imageId, UUID leaverId, UUID authorId, int authorPostId, UUID recentId) {
+    }
+}
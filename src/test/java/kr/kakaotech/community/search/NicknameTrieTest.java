@@ -0,0 +1,95 @@
+package kr.kakaotech.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameTrieTest {
+
+    @Test
+    @DisplayName("prefix 검색은 사전 순으로 최대 limit 개를 반환해야 한다")
+    void search_prefix() {
+        // given
+        NicknameTrie trie = NicknameTrie.EMPTY;
+        for (String nickname : List.of("kim", "kimchi", "kimbap", "kang", "lee")) {
+            trie = trie.with(nickname, new NicknameMatch(UUID.randomUUID(), nickname));
+        }
+
+        // when
+        List<NicknameMatch> result = trie.search("kim", 2);
+
+        // then
+        assertThat(result).extracting(NicknameMatch::nickname).containsExactly("kim", "kimbap");
+        assertThat(trie.search("k", 10)).hasSize(4);
+        assertThat(trie.search("park", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경은 이전 trie 에 보이지 않아야 하고, 다른 사용자의 닉네임은 지우지 않아야 한다")
+    void with_without_persistent() {
+        // given
+        UUID owner = UUID.randomUUID();
+        NicknameTrie before = NicknameTrie.EMPTY.with("judy", new NicknameMatch(owner, "Judy"));
+
+        // when
+        NicknameTrie after = before.without("judy", owner);
+        NicknameTrie untouched = before.without("judy", UUID.randomUUID());
+
+        // then
+        assertThat(before.search("ju", 10)).extracting(NicknameMatch::nickname).containsExactly("Judy");
+        assertThat(after.search("ju", 10)).isEmpty();
+        assertThat(untouched.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 추가, 삭제 후에도 TreeMap 과 같은 결과를 내고 모두 지우면 빈 trie 크기로 돌아와야 한다")
+    void randomized_matchesTreeMap() {
+        // given
+        Random random = new Random(41);
+        NicknameTrie trie = NicknameTrie.EMPTY;
+        TreeMap<String, NicknameMatch> expected = new TreeMap<>();
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            String nickname = randomNickname(random);
+            if (random.nextInt(3) == 0 && expected.containsKey(nickname)) {
+                trie = trie.without(nickname, expected.remove(nickname).userId());
+            } else {
+                NicknameMatch entry = new NicknameMatch(UUID.randomUUID(), nickname);
+                trie = trie.with(nickname, entry);
+                expected.put(nickname, entry);
+            }
+        }
+
+        // then
+        assertThat(trie.size()).isEqualTo(expected.size());
+        for (String prefix : List.of("a", "ab", "ba", "c", "abc")) {
+            List<NicknameMatch> wanted = expected.subMap(prefix, prefix + Character.MAX_VALUE).values().stream()
+                    .limit(7)
+                    .toList();
+            assertThat(trie.search(prefix, 7)).containsExactlyElementsOf(wanted);
+        }
+
+        for (Map.Entry<String, NicknameMatch> entry : expected.entrySet()) {
+            trie = trie.without(entry.getKey(), entry.getValue().userId());
+        }
+        assertThat(trie.size()).isZero();
+        assertThat(trie.estimatedBytes()).isEqualTo(NicknameTrie.EMPTY.estimatedBytes());
+    }
+
+    private String randomNickname(Random random) {
+        int length = 1 + random.nextInt(5);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,197 @@
+package kr.kakaotech.community.service;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.dto.request.PostRegisterRequest;
+import kr.kakaotech.community.dto.response.PostListResponse;
+import kr.kakaotech.community.dto.response.PostSummaryResponse;
+import kr.kakaotech.community.dto.response.UserStatusResponse;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostStatus;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.entity.UserStatus;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.global.security.UserProfile;
+import kr.kakaotech.community.repository.UserStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AuthorFeedTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserStatusRepository userStatusRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("작성자 피드는 userId 기준 최신순으로 삭제글을 빼고 커서로 이어져야 한다")
+    void getAuthorPostList_keyset() {
+        // given
+        User writer = new User("feed@test.kr", "password", "feed", "USER");
+        User other = new User("feed-other@test.kr", "password", "feedother", "USER");
+        em.persist(writer);
+        em.persist(other);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Post post = persistPost(writer, "피드 " + i);
+            if (i == 2) {
+                post.deletePost();
+            } else {
+                expected.add(0, post.getId());
+            }
+            persistPost(other, "다른 글 " + i);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        PostListResponse first = postService.getAuthorPostList(writer.getId(), null, 3);
+        PostListResponse second = postService.getAuthorPostList(writer.getId(), first.getNextCursor(), 3);
+
+        // then
+        assertThat(first.isHasNext()).isTrue();
+        List<Integer> ids = new ArrayList<>(first.getPosts().stream().map(PostSummaryResponse::getId).toList());
+        ids.addAll(second.getPosts().stream().map(PostSummaryResponse::getId).toList());
+        assertThat(ids).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("게시글 등록은 캐시된 프로필이 아니라 users 의 현재 닉네임을 복사해야 한다")
+    void registerPost_copiesFreshNickname() {
+        // given - 닉네임을 바꾸기 전의 프로필을 들고 있는 로그인 사용자
+        User writer = new User("fresh@test.kr", "password", "before", "USER");
+        em.persist(writer);
+        em.persist(new UserStatus(writer.getId()));
+        CustomUserDetails staleLogin = new CustomUserDetails(writer.getId(), "USER", new UserProfile("before", null, false));
+        ReflectionTestUtils.setField(writer, "nickname", "after");
+        em.flush();
+        em.clear();
+
+        // when
+        int postId = postService.registerPost(staleLogin, new PostRegisterRequest("새 글", "내용", null, "in_progress"), null);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(em.find(Post.class, postId).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("게시글 등록, 좋아요, 삭제 시 작성자 통계가 집계 없이 갱신되어야 한다")
+    void userStatus_incremental() {
+        // given
+        User writer = new User("stat@test.kr", "password", "stat", "USER");
+        User liker = new User("stat-liker@test.kr", "password", "statliker", "USER");
+        em.persist(writer);
+        em.persist(liker);
+        em.persist(new UserStatus(writer.getId()));
+        em.flush();
+
+        CustomUserDetails loginUser = new CustomUserDetails(writer);
+        int kept = postService.registerPost(loginUser, new PostRegisterRequest("남는 글", "내용", null, "in_progress"), null);
+        int removed = postService.registerPost(loginUser, new PostRegisterRequest("지울 글", "내용", null, "in_progress"), null);
+        likeService.toggleLike(liker.getId(), kept);
+        likeService.toggleLike(liker.getId(), removed);
+        em.flush();
+        em.clear();
+        assertStatus(writer, 2, 2);
+
+        // when
+        postService.deletePost(removed, writer.getId());
+        em.flush();
+        em.clear();
+
+        // then
+        assertStatus(writer, 1, 1);
+    }
+
+    @Test
+    @DisplayName("게시글 수가 이미 0 으로 어긋나 있어도 삭제한 게시글의 좋아요 수는 차감되어야 한다")
+    void deletePost_subtractsEachColumnIndependently() {
+        // given - 게시글 수 0, 받은 좋아요 5 로 어긋난 통계
+        User writer = new User("drift@test.kr", "password", "drift", "USER");
+        em.persist(writer);
+        em.persist(new UserStatus(writer.getId()));
+        Post post = persistPost(writer, "좋아요 받은 글");
+        ReflectionTestUtils.setField(em.find(PostStatus.class, post.getId()), "likeCount", 2);
+        em.flush();
+        userStatusRepository.updateCounts(writer.getId(), 0, 5, 0, 0);
+        em.clear();
+
+        // when
+        postService.deletePost(post.getId(), writer.getId());
+        em.flush();
+        em.clear();
+
+        // then - 게시글 수는 0 아래로 내려가지 않고 좋아요만 차감
+        assertStatus(writer, 0, 3);
+
+        // 받은 좋아요가 모자라도 0 에서 멈춤
+        Post another = persistPost(writer, "또 다른 글");
+        ReflectionTestUtils.setField(em.find(PostStatus.class, another.getId()), "likeCount", 10);
+        em.flush();
+        userStatusRepository.updateCounts(writer.getId(), 1, 3, 0, 3);
+        em.clear();
+        postService.deletePost(another.getId(), writer.getId());
+        em.flush();
+        em.clear();
+        assertStatus(writer, 0, 0);
+    }
+
+    @Test
+    @DisplayName("통계 row 가 없는 기존 회원은 현재 게시글, 좋아요로 채워야 한다")
+    void backfillUserStatus() {
+        // given
+        User writer = new User("backfill@test.kr", "password", "backfill", "USER");
+        em.persist(writer);
+        Post post = persistPost(writer, "기존 글");
+        PostStatus postStatus = em.find(PostStatus.class, post.getId());
+        ReflectionTestUtils.setField(postStatus, "likeCount", 3);
+        Post deleted = persistPost(writer, "삭제된 글");
+        deleted.deletePost();
+        em.flush();
+        em.clear();
+
+        // when
+        userService.backfillUserStatus();
+        em.clear();
+
+        // then
+        assertStatus(writer, 1, 3);
+    }
+
+    private Post persistPost(User writer, String title) {
+        Post post = new Post(title, "내용", PostType.IN_PROGRESS, writer.getNickname(), LocalDateTime.now(), false, writer);
+        em.persist(post);
+        em.persist(new PostStatus(post));
+        return post;
+    }
+
+    private void assertStatus(User writer, int postCount, int receivedLikeCount) {
+        UserStatusResponse status = userService.getUserStatus(writer.getId());
+        assertThat(status.getPostCount()).isEqualTo(postCount);
+        assertThat(status.getReceivedLikeCount()).isEqualTo(receivedLikeCount);
+    }
+}
@@ -0,0 +1,110 @@
+package kr.kakaotech.community.service;
+
+import jakarta.persistence.EntityManager;
+import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.dto.response.LikeResponse;
+import kr.kakaotech.community.entity.Comment;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.repository.CommentLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentLikeServiceTest {
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("댓글 좋아요 토글 시 카운터와 좋아요 row 가 함께 바뀌어야 한다")
+    void toggleLike() {
+        // given
+        User user = new User("liker@test.kr", "password", "liker", "USER");
+        em.persist(user);
+        Post post = new Post("좋아요 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        Comment comment = new Comment("댓글", user, post);
+        em.persist(comment);
+        em.flush();
+
+        // when
+        LikeResponse liked = commentLikeService.toggleLike(user.getId(), comment.getId());
+        LikeResponse unliked = commentLikeService.toggleLike(user.getId(), comment.getId());
+
+        // then
+        assertThat(liked.isLikeStatus()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1);
+        assertThat(unliked.isLikeStatus()).isFalse();
+        assertThat(unliked.getLikeCount()).isEqualTo(0);
+        assertThat(commentLikeRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("중복 좋아요 insert 는 무시되어야 한다")
+    void insertIgnore_duplicate() {
+        // given
+        User user = new User("dup@test.kr", "password", "dup", "USER");
+        em.persist(user);
+        Post post = new Post("중복 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        Comment comment = new Comment("댓글", user, post);
+        em.persist(comment);
+        em.flush();
+
+        // when
+        int first = commentLikeRepository.insertIgnore(user.getId(), comment.getId());
+        int second = commentLikeRepository.insertIgnore(user.getId(), comment.getId());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회 시 내가 좋아요 누른 댓글만 liked 로 표시되어야 한다")
+    void getCommentList_likedByMe() {
+        // given
+        User user = new User("me@test.kr", "password", "me", "USER");
+        em.persist(user);
+        Post post = new Post("목록 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        Comment first = new Comment("첫 댓글", user, post);
+        Comment second = new Comment("두번째 댓글", user, post);
+        em.persist(first);
+        em.persist(second);
+        em.flush();
+
+        commentLikeService.toggleLike(user.getId(), second.getId());
+        em.clear();
+
+        // when
+        Page<CommentResponse> page = commentService.getCommentList(post.getId(), user.getId(), PageRequest.of(0, 10, Sort.by("id")));
+
+        // then
+        assertThat(page.getContent().get(0).isLiked()).isFalse();
+        assertThat(page.getContent().get(1).isLiked()).isTrue();
+        assertThat(page.getContent().get(1).getLikeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,232 @@
+package kr.kakaotech.community.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.kakaotech.community.dto.request.CommentRequest;
+import kr.kakaotech.community.dto.response.CommentResponse;
+import kr.kakaotech.community.entity.Comment;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.PostType;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.exception.CustomException;
+import kr.kakaotech.community.exception.ErrorCode;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("댓글 100개 페이지 조회 시 작성자 수와 상관없이 쿼리 수가 고정되어야 한다")
+    void getCommentList_statementCount() {
+        // given
+        Post post = null;
+        for (int i = 0; i < 10; i++) {
+            User user = new User("comment" + i + "@test.kr", "password", "cmt" + i, "USER");
+            em.persist(user);
+            if (post == null) {
+                post = new Post("댓글 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+                em.persist(post);
+            }
+            for (int j = 0; j < 10; j++) {
+                em.persist(new Comment("댓글 " + i + "-" + j, user, post));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        Page<CommentResponse> page = commentService.getCommentList(post.getId(), null, PageRequest.of(0, 100, Sort.by("createdAt")));
+
+        // then
+        // 게시글 존재 확인 1 + 댓글 projection 1 + count 1
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글과 탈퇴한 회원의 댓글은 마스킹되어야 한다")
+    void getCommentList_masking() {
+        // given
+        User writer = new User("writer@test.kr", "password", "writer", "USER");
+        User leaver = new User("leaver@test.kr", "password", "leaver", "USER");
+        em.persist(writer);
+        em.persist(leaver);
+        Post post = new Post("마스킹 테스트", "내용", PostType.IN_PROGRESS, writer.getNickname(), LocalDateTime.now(), false, writer);
+        em.persist(post);
+
+        Comment deleted = new Comment("지워질 댓글", writer, post);
+        deleted.delete();
+        em.persist(deleted);
+        em.persist(new Comment("탈퇴 회원 댓글", leaver, post));
+        leaver.deleteUser();
+        em.flush();
+        em.clear();
+
+        // when
+        Page<CommentResponse> page = commentService.getCommentList(post.getId(), null, PageRequest.of(0, 10, Sort.by("id")));
+
+        // then
+        CommentResponse deletedResponse = page.getContent().get(0);
+        assertThat(deletedResponse.getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(deletedResponse.getUserId()).isNull();
+        assertThat(deletedResponse.getNickname()).isNull();
+
+        CommentResponse leaverResponse = page.getContent().get(1);
+        assertThat(leaverResponse.getContent()).isEqualTo("탈퇴 회원 댓글");
+        assertThat(leaverResponse.getNickname()).isEqualTo("탈퇴한 회원이 작성한 댓글입니다");
+    }
+
+    @Test
+    @DisplayName("답글은 스레드 안에서 depth-first 순서로 한 번에 조회되어야 한다")
+    void getThread_depthFirst() {
+        // given
+        User user = new User("thread@test.kr", "password", "thread", "USER");
+        em.persist(user);
+        Post post = new Post("스레드 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        em.flush();
+
+        CustomUserDetails loginUser = new CustomUserDetails(user);
+        commentService.registerComment(loginUser, post.getId(), new CommentRequest("루트"));
+        int rootId = commentService.getCommentList(post.getId(), null, PageRequest.of(0, 10)).getContent().get(0).getId();
+        commentService.registerReply(loginUser, rootId, new CommentRequest("답글1"));
+        commentService.registerReply(loginUser, rootId, new CommentRequest("답글2"));
+        em.flush();
+        em.clear();
+
+        int firstReplyId = commentService.getThread(rootId, null).get(1).getId();
+        commentService.registerReply(loginUser, firstReplyId, new CommentRequest("답글1-1"));
+        em.flush();
+        em.clear();
+
+        // when
+        List<CommentResponse> thread = commentService.getThread(firstReplyId, null);
+
+        // then
+        assertThat(thread).extracting(CommentResponse::getContent)
+                .containsExactly("루트", "답글1", "답글1-1", "답글2");
+        assertThat(thread.get(2).getDepth()).isEqualTo(2);
+        assertThat(thread.get(2).getParentId()).isEqualTo(firstReplyId);
+        assertThat(thread.get(0).getReplyCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 N개와 앞쪽 답글 K개는 쿼리 한 번으로 조회되어야 한다")
+    void getThreadList_singleStatement() {
+        // given
+        User user = new User("threads@test.kr", "password", "threads", "USER");
+        em.persist(user);
+        Post post = new Post("스레드 목록 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        em.flush();
+
+        CustomUserDetails loginUser = new CustomUserDetails(user);
+        for (int i = 0; i < 3; i++) {
+            commentService.registerComment(loginUser, post.getId(), new CommentRequest("루트" + i));
+        }
+        em.flush();
+        for (CommentResponse root : commentService.getCommentList(post.getId(), null, PageRequest.of(0, 10, Sort.by("id"))).getContent()) {
+            for (int j = 0; j < 4; j++) {
+                commentService.registerReply(loginUser, root.getId(), new CommentRequest(root.getContent() + "-" + j));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        List<CommentResponse> threads = commentService.getThreadList(post.getId(), null, 0, 2, 2);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(threads).extracting(CommentResponse::getContent)
+                .containsExactly("루트0", "루트0-0", "루트0-1", "루트1", "루트1-0", "루트1-1");
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("댓글 등록 시 작성자는 인증 정보로 참조만 하고 users 를 조회하지 않아야 한다")
+    void registerComment_withoutUserSelect() {
+        // given
+        User user = new User("reference@test.kr", "password", "reference", "USER");
+        em.persist(user);
+        Post post = new Post("참조 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        commentService.registerComment(new CustomUserDetails(user), post.getId(), new CommentRequest("참조 댓글"));
+        em.flush();
+
+        // then
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("스레드 목록 조회는 잘못된 페이지 값과 없는 게시글을 거절해야 한다")
+    void getThreadList_validation() {
+        // given
+        User user = new User("threads-invalid@test.kr", "password", "tinvalid", "USER");
+        em.persist(user);
+        Post post = new Post("검증 테스트", "내용", PostType.IN_PROGRESS, user.getNickname(), LocalDateTime.now(), false, user);
+        em.persist(post);
+        em.flush();
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getThreadList(post.getId(), null, -1, 20, 3))
+                .isInstanceOf(CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> commentService.getThreadList(post.getId(), null, 0, 0, 3))
+                .isInstanceOf(CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> commentService.getThreadList(post.getId(), null, 0, 20, 0))
+                .isInstanceOf(CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> commentService.getThreadList(post.getId(), null, Integer.MAX_VALUE, 2000, 3))
+                .isInstanceOf(CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        assertThatThrownBy(() -> commentService.getThreadList(post.getId() + 1000, null, 0, 20, 3))
+                .isInstanceOf(CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.NOT_FOUND_POST);
+
+        assertThat(commentService.getThreadList(post.getId(), null, 0, Integer.MAX_VALUE, Integer.MAX_VALUE)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package kr.kakaotech.community.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.kakaotech.community.dto.request.PostRegisterRequest;
+import kr.kakaotech.community.entity.Post;
+import kr.kakaotech.community.entity.User;
+import kr.kakaotech.community.global.security.CustomUserDetails;
+import kr.kakaotech.community.util.ImageManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@Transactional
+class PostRegisterBatchTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @MockitoBean
+    private ImageManager imageManager;
+
+    @Test
+    @DisplayName("이미지 5장 게시글 등록은 이미지 수와 상관없이 정해진 수의 쿼리로 끝나야 한다")
+    void registerPost_batchedInserts() {
+        // given
+        User user = new User("batch@test.kr", "password", "batch", "USER");
+        em.persist(user);
+        em.flush();
+        em.clear();
+
+        given(imageManager.uploadImage(any())).willReturn("/uploads/post.png");
+        List<MultipartFile> images = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            images.add(new MockMultipartFile("postImages", "post" + i + ".png", "image/png", new byte[]{1}));
+        }
+
+        // sequence 첫 할당은 테스트마다 달라서 미리 한 번 받아 둡니다.
+        CustomUserDetails loginUser = new CustomUserDetails(user);
+        postService.registerPost(loginUser, new PostRegisterRequest("준비", "내용", null, "in_progress"), images);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        int postId = postService.registerPost(loginUser, new PostRegisterRequest("배치", "내용", null, "in_progress"), images);
+        em.flush();
+
+        // then
+        // 작성자 프로필 select 1 + insert posts, images, post_image, post_statuses 각 1 + user_statuses update 1
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        em.clear();
+        assertThat(em.find(Post.class, postId).getPostImages()).hasSize(5);
+
+        statistics.setStatisticsEnabled(false);
+    }
+}
@@ -74,11 +74,14 @@ class PostStatusServiceTest {
                 false
         );
 
-        // Post 생성
+        // Post 생성 - id 는 sequence 에서 한 구간을 예약해서 사용 (Hibernate 가 다음에 받는 구간과 겹치지 않음)
+        int reservedId = jdbcTemplate.queryForObject("SELECT next_val FROM posts_seq", Integer.class);
+        jdbcTemplate.update("UPDATE posts_seq SET next_val = next_val + 50");
         jdbcTemplate.update(
-                "INSERT INTO posts (title, content, nickname, created_at, deleted, user_id) " +
-                        "VALUES ('동시성 테스트용 게시글', '내용', 'conctest', NOW(), false, " +
-                        "(SELECT id FROM users WHERE email = 'concurrency_test@test.com'))"
+                "INSERT INTO posts (id, title, content, nickname, created_at, deleted, user_id) " +
+                        "VALUES (?, '동시성 테스트용 게시글', '내용', 'conctest', NOW(), false, " +
+                        "(SELECT id FROM users WHERE email = 'concurrency_test@test.com'))",
+                reservedId
         );
 
         // 생성된 Post ID 조회
@@ -0,0 +1,103 @@
+package kr.kakaotech.community.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.kakaotech.community.dto.response.UserListResponse;
+import kr.kakaotech.community.dto.response.UserSummaryResponse;
+import kr.kakaotech.community.entity.Image;
+import kr.kakaotech.community.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class UserServiceListTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("같은 createdAt 이 있어도 커서 페이징은 (createdAt, id) 순서로 빠짐없이 이어져야 한다")
+    void getUserList_keyset() {
+        // given - 다른 테스트 데이터보다 앞에 오도록 먼 미래 시각 사용
+        LocalDateTime tie = LocalDateTime.of(2100, 1, 1, 0, 0);
+        List<String> expectedNicknames = List.of("list4", "list0", "list1", "list2", "list3");
+        for (int i = 0; i < 5; i++) {
+            User user = new User("list" + i + "@test.kr", "password", "list" + i, "USER");
+            ReflectionTestUtils.setField(user, "createdAt", i == 4 ? tie.plusDays(1) : tie);
+            em.persist(user);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<UserSummaryResponse> collected = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 3; page++) {
+            UserListResponse response = userService.getUserList(cursor, 2, false);
+            collected.addAll(response.getUsers());
+            cursor = response.getNextCursor();
+        }
+
+        // then
+        List<UserSummaryResponse> ours = collected.subList(0, 5);
+        assertThat(ours.get(0).getNickname()).isEqualTo("list4");
+        assertThat(ours).extracting(UserSummaryResponse::getNickname).containsExactlyInAnyOrderElementsOf(expectedNicknames);
+        assertThat(ours.subList(1, 5)).extracting(UserSummaryResponse::getId)
+                .isSortedAccordingTo((a, b) -> compareBinaryUuidDesc(a, b));
+        assertThat(collected).extracting(UserSummaryResponse::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("목록은 이미지 URL 까지 쿼리 한 번으로 조회하고, exactCount 면 COUNT 로 정확한 수를 반환해야 한다")
+    void getUserList_singleStatement() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            User user = new User("image" + i + "@test.kr", "password", "image" + i, "USER");
+            Image image = new Image("/uploads/image" + i + ".png");
+            em.persist(image);
+            user.addImage(image);
+            em.persist(user);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        UserListResponse response = userService.getUserList(null, 5, true);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 목록 1 + COUNT 1
+        assertThat(response.getUsers()).allSatisfy(user -> assertThat(user.getImageUrl()).isNotNull());
+        assertThat(response.isTotalExact()).isTrue();
+        assertThat(response.getTotalCount()).isGreaterThanOrEqualTo(5);
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    // binary(16) 는 바이트 순서(부호 없는 비교)로 정렬됩니다.
+    private int compareBinaryUuidDesc(String a, String b) {
+        return b.replace("-", "").compareTo(a.replace("-", ""));
+    }
+}
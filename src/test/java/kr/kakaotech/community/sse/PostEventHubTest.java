@@ -0,0 +1,167 @@
+package kr.kakaotech.community.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.kakaotech.community.repository.PostStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class PostEventHubTest {
+
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostEventHub hub = new PostEventHub(mock(PostStatusRepository.class), new ObjectMapper(), meterRegistry) {
+        @Override
+        SseEmitter newEmitter() {
+            return emitters.pollFirst();
+        }
+    };
+
+    PostEventHubTest() {
+        ReflectionTestUtils.setField(hub, "bufferSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("댓글 이벤트는 같은 게시글의 구독자 모두에게 한 번씩 전달되어야 한다")
+    void publishComment_fanOut() throws IOException {
+        // given
+        SseEmitter first = subscribe(1);
+        SseEmitter second = subscribe(1);
+        SseEmitter otherPost = subscribe(2);
+
+        // when
+        hub.publishComment(1, "{\"content\":\"댓글\"}");
+
+        // then
+        verify(first, timeout(1000)).send(anySet());
+        verify(second, timeout(1000)).send(anySet());
+        verify(otherPost, never()).send(anySet());
+        assertThat(hub.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 버퍼가 가득 차면 가장 오래된 이벤트부터 버려야 한다")
+    void publishComment_dropOldest() throws Exception {
+        // given
+        SseEmitter slow = subscribe(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sent.add(dataOf(invocation.getArgument(0)));
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).send(anySet());
+
+        // when - 첫 이벤트 전송이 막힌 동안 3개가 더 들어옵니다. (버퍼 2)
+        hub.publishComment(1, "c0");
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+        hub.publishComment(1, "c1");
+        hub.publishComment(1, "c2");
+        hub.publishComment(1, "c3");
+        release.countDown();
+
+        // then
+        verify(slow, timeout(1000).times(3)).send(anySet());
+        assertThat(sent).containsExactly("c0", "c2", "c3");
+        assertThat(meterRegistry.get("sse.events.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료, 에러, 타임아웃, 전송 실패 시 구독이 정리되어야 한다")
+    void subscriber_removedOnTermination() throws IOException {
+        // given
+        SseEmitter completed = subscribe(1);
+        SseEmitter failed = subscribe(1);
+        SseEmitter timedOut = subscribe(1);
+        SseEmitter broken = subscribe(1);
+        doThrow(new IOException("broken pipe")).when(broken).send(anySet());
+
+        // when
+        callback(completed, "completion").run();
+        errorCallback(failed).accept(new IOException("reset"));
+        callback(timedOut, "timeout").run();
+        hub.publishComment(1, "after");
+
+        // then
+        verify(timedOut).complete();
+        verify(broken, timeout(1000)).send(anySet());
+        verify(completed, never()).send(anySet());
+        verify(failed, never()).send(anySet());
+        verify(timedOut, never()).send(anySet());
+        waitUntil(() -> hub.getSubscriberCount() == 0);
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    private SseEmitter subscribe(int postId) {
+        SseEmitter emitter = mock(SseEmitter.class);
+        emitters.addLast(emitter);
+        assertThat(hub.subscribe(postId)).isSameAs(emitter);
+        return emitter;
+    }
+
+    private Runnable callback(SseEmitter emitter, String type) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        if ("completion".equals(type)) {
+            verify(emitter).onCompletion(captor.capture());
+        } else {
+            verify(emitter).onTimeout(captor.capture());
+        }
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<Throwable> errorCallback(SseEmitter emitter) {
+        ArgumentCaptor<Consumer<Throwable>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(emitter).onError(captor.capture());
+        return captor.getValue();
+    }
+
+    // SSE 이벤트 조각 중 JSON 으로 실린 본문
+    private Object dataOf(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        return event.stream()
+                .filter(item -> MediaType.APPLICATION_JSON.equals(item.getMediaType()))
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package kr.kakaotech.community.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.kakaotech.community.dto.response.CommentResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PostEventRelayTest {
+
+    private final PostEventHub hub = mock(PostEventHub.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("로컬 relay 는 댓글은 바로 전송하고 카운터는 변경 표시만 해야 한다")
+    void local_delegatesToHub() {
+        // given
+        LocalPostEventRelay relay = new LocalPostEventRelay(hub);
+        CommentResponse comment = mock(CommentResponse.class);
+
+        // when
+        relay.onPostActivity(PostActivityEvent.commentAdded(1, comment));
+        relay.onPostActivity(PostActivityEvent.counterChanged(2));
+
+        // then
+        verify(hub).publishComment(1, comment);
+        verify(hub).markCounterChanged(2);
+    }
+
+    @Test
+    @DisplayName("Redis relay 는 다른 노드의 메시지만 허브에 전달하고 카운터는 모아서 한 번에 발행해야 한다")
+    void redis_relaysOtherNodesOnly() throws Exception {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RedisPostEventRelay relay = new RedisPostEventRelay(hub, redisTemplate, objectMapper, mock(RedisMessageListenerContainer.class));
+
+        // when - 자기 노드 카운터 변경 두 건은 한 메시지로 발행
+        relay.onPostActivity(PostActivityEvent.counterChanged(3));
+        relay.onPostActivity(PostActivityEvent.counterChanged(4));
+        relay.flushPendingCounters();
+
+        // then
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("sse:post-activity"), published.capture());
+        verify(hub).markCounterChanged(3);
+        verify(hub).markCounterChanged(4);
+
+        // 자기 노드가 보낸 메시지는 무시
+        relay.onMessage(new DefaultMessage(new byte[0], published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        verify(hub, never()).publishComment(anyInt(), anyString());
+
+        // 다른 노드의 댓글, 카운터는 허브로 전달
+        String other = objectMapper.writeValueAsString(new RedisPostEventRelay.RelayMessage("other-node", 5, "{\"content\":\"댓글\"}", List.of(6)));
+        relay.onMessage(new DefaultMessage(new byte[0], other.getBytes(StandardCharsets.UTF_8)), null);
+        verify(hub).publishComment(5, "{\"content\":\"댓글\"}");
+        verify(hub).markCounterChanged(6);
+    }
+}
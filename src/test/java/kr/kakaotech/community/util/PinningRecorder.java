@@ -0,0 +1,83 @@
+package kr.kakaotech.community.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트 수집기
+ *
+ * virtual thread 가 carrier 를 잡은 채 block 된 지점을 기록합니다.
+ * 스택에 우리 패키지 프레임이 있는 이벤트만 돌려줘서 JDK, 라이브러리 내부 pinning 은 걸러냅니다.
+ */
+class PinningRecorder implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OWN_PACKAGE = "kr.kakaotech.community";
+
+    private final Recording recording = new Recording();
+
+    PinningRecorder() {
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+    }
+
+    /**
+     * 기록을 멈추고 우리 코드에서 발생한 pinning 스택을 반환합니다.
+     */
+    List<String> stopAndCollect(String... ownPackages) throws IOException {
+        recording.stop();
+        Path dump = Files.createTempFile("pinning", ".jfr");
+        try {
+            recording.dump(dump);
+            List<String> pinned = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                if (!PINNED_EVENT.equals(event.getEventType().getName()) || event.getStackTrace() == null) {
+                    continue;
+                }
+                String stack = toStack(event);
+                if (containsAny(stack, ownPackages.length == 0 ? new String[]{OWN_PACKAGE} : ownPackages)) {
+                    pinned.add(stack);
+                }
+            }
+            return pinned;
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+
+    private String toStack(RecordedEvent event) {
+        StringBuilder sb = new StringBuilder();
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            sb.append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    private boolean containsAny(String stack, String[] packages) {
+        for (String pkg : packages) {
+            if (stack.contains(pkg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
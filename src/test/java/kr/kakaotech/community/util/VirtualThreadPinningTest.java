@@ -0,0 +1,110 @@
+package kr.kakaotech.community.util;
+
+import com.sun.net.httpserver.HttpServer;
+import kr.kakaotech.community.global.config.RateLimitProperties;
+import kr.kakaotech.community.global.config.WebClientConfig;
+import kr.kakaotech.community.global.ratelimit.LocalTokenBucketRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningTest {
+
+    private static final String RESPONSE = "{\"status\":200,\"message\":\"ok\",\"data\":{\"filePath\":\"/uploads/x.png\"}}";
+
+    private HttpServer gateway;
+    private ApiGatewayImageManager imageManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 느린 이미지 게이트웨이 대역 - 응답 전에 30ms 대기
+        gateway = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        gateway.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        gateway.createContext("/upload", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        gateway.start();
+
+        String url = "http://127.0.0.1:" + gateway.getAddress().getPort() + "/upload";
+        imageManager = new ApiGatewayImageManager(WebClientConfig.configure(WebClient.builder(), true).build());
+        ReflectionTestUtils.setField(imageManager, "profileUploadUrl", url);
+        ReflectionTestUtils.setField(imageManager, "postUploadUrl", url);
+        ReflectionTestUtils.setField(imageManager, "timeoutMs", 10_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop(0);
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 block 하면 pinning 으로 감지되어야 한다")
+    void detector_catchesSynchronizedBlocking() throws Exception {
+        Object monitor = new Object();
+
+        try (PinningRecorder recorder = new PinningRecorder()) {
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            assertThat(recorder.stopAndCollect(VirtualThreadPinningTest.class.getName())).isNotEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("virtual thread 동시 이미지 업로드와 rate limit 경로에서 pinning 이 없어야 한다")
+    void hotPath_noPinning() throws Exception {
+        LocalTokenBucketRateLimiter rateLimiter = new LocalTokenBucketRateLimiter(new RateLimitProperties());
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        MockMultipartFile image = new MockMultipartFile("image", "x.png", "image/png", new byte[1024]);
+
+        try (PinningRecorder recorder = new PinningRecorder();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String key = "user-" + (i % 20);
+                results.add(executor.submit(() -> {
+                    rateLimiter.tryAcquire(key, limit);
+                    return imageManager.uploadPostImage(image);
+                }));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("/uploads/x.png");
+            }
+
+            assertThat(recorder.stopAndCollect()).isEmpty();
+        }
+    }
+}